@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.1.2"
 	id("io.spring.dependency-management") version "1.1.2"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "br.com.fullcycle"
@@ -16,7 +17,9 @@ repositories {
 }
 
 dependencies {
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("io.hypersistence:hypersistence-tsid:2.1.0")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-graphql")
 	implementation("org.springframework.boot:spring-boot-starter-web")
@@ -33,3 +36,11 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	resultFormat.set("JSON")
+}
@@ -0,0 +1,41 @@
+package br.com.fullcycle.hexagonal.benchmarks;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventEntityMappingBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int ticketCount;
+
+    private Event event;
+    private EventEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var partner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        this.event = Event.newEvent("Disney on Ice", "2021-01-01", ticketCount, partner);
+        for (int i = 0; i < ticketCount; i++) {
+            this.event.reserveTicket(CustomerId.unique());
+        }
+        this.entity = EventEntity.of(event);
+    }
+
+    @Benchmark
+    public EventEntity of() {
+        return EventEntity.of(event);
+    }
+
+    @Benchmark
+    public Event toEvent() {
+        return entity.toEvent();
+    }
+}
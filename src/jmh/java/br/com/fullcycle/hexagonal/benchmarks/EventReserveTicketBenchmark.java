@@ -0,0 +1,69 @@
+package br.com.fullcycle.hexagonal.benchmarks;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Name;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+// Cada iteração reserva BATCH tickets num evento recém-restaurado com ticketCount tickets já vendidos
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = EventReserveTicketBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = EventReserveTicketBenchmark.BATCH)
+public class EventReserveTicketBenchmark {
+
+    static final int BATCH = 1_000;
+
+    @Param({"0", "1000", "100000"})
+    private int ticketCount;
+
+    private EventId eventId;
+    private HashSet<EventTicket> tickets;
+    private CustomerId[] customers;
+
+    private Event event;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.eventId = EventId.unique();
+        this.tickets = new HashSet<>(ticketCount);
+        for (int i = 1; i <= ticketCount; i++) {
+            this.tickets.add(new EventTicket(TicketId.unique(), eventId, CustomerId.unique(), i));
+        }
+
+        this.customers = new CustomerId[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            this.customers[i] = CustomerId.unique();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        this.event = Event.hydrate(
+                eventId,
+                new Name("Disney on Ice"),
+                LocalDate.of(2021, 1, 1),
+                ticketCount + BATCH,
+                PartnerId.unique(),
+                new HashSet<>(tickets),
+                0L
+        );
+        this.next = 0;
+    }
+
+    @Benchmark
+    public Ticket reserveTicket() {
+        return event.reserveTicket(customers[next++]);
+    }
+}
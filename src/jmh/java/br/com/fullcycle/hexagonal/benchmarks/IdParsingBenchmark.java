@@ -0,0 +1,38 @@
+package br.com.fullcycle.hexagonal.benchmarks;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdParsingBenchmark {
+
+    private String value;
+    private CustomerId customerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.customerId = CustomerId.unique();
+        this.value = customerId.value();
+    }
+
+    @Benchmark
+    public CustomerId with() {
+        return CustomerId.with(value);
+    }
+
+    @Benchmark
+    public String value() {
+        return customerId.value();
+    }
+
+    // Referência: o caminho anterior, via UUID.fromString
+    @Benchmark
+    public UUID uuidFromString() {
+        return UUID.fromString(value);
+    }
+}
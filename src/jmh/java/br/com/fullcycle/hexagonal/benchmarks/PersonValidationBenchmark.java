@@ -0,0 +1,48 @@
+package br.com.fullcycle.hexagonal.benchmarks;
+
+import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersonValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^\\w+([\\.-]?\\w+)*@\\w+([\\.-]?\\w+)*(\\.\\w{2,3})+$";
+
+    private String cpf;
+    private String cnpj;
+    private String email;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.cpf = "123.456.789-01";
+        this.cnpj = "41.536.538/0001-00";
+        this.email = "john.doe-smith@mail.example.com.br";
+    }
+
+    @Benchmark
+    public Cpf cpf() {
+        return new Cpf(cpf);
+    }
+
+    @Benchmark
+    public Cnpj cnpj() {
+        return new Cnpj(cnpj);
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    // Referência: a validação anterior, com String.matches
+    @Benchmark
+    public boolean emailRegex() {
+        return email.matches(EMAIL_REGEX);
+    }
+}
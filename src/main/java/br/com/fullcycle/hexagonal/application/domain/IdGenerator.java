@@ -0,0 +1,14 @@
+package br.com.fullcycle.hexagonal.application.domain;
+
+import java.util.UUID;
+
+// Estratégia de geração dos identificadores dos agregados (CustomerId, EventId, PartnerId, TicketId)
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.fullcycle.hexagonal.application.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Leitura e escrita de UUIDs canônicos (8-4-4-4-12) direto em dois longs, sem substrings nem objetos intermediários
+public final class Uuids {
+
+    private static final int LENGTH = 36;
+    private static final int MOST_SIGNIFICANT_END = 18;
+    private static final byte[] HEX_DIGITS = new byte[128];
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+            HEX_DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private Uuids() {
+    }
+
+    public static boolean isValid(final CharSequence value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < LENGTH; i++) {
+            final char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (digit(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Deve ser chamado somente após isValid
+    public static long mostSignificantBits(final CharSequence value) {
+        return bits(value, 0, MOST_SIGNIFICANT_END);
+    }
+
+    // Deve ser chamado somente após isValid
+    public static long leastSignificantBits(final CharSequence value) {
+        return bits(value, MOST_SIGNIFICANT_END + 1, LENGTH);
+    }
+
+    // Mesmo texto de UUID.toString(), escrito direto dos dois longs num único buffer Latin-1
+    public static String format(final long mostSignificantBits, final long leastSignificantBits) {
+        final var chars = new byte[LENGTH];
+        hex(chars, 0, mostSignificantBits >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, mostSignificantBits >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, mostSignificantBits, 4);
+        chars[18] = '-';
+        hex(chars, 19, leastSignificantBits >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, leastSignificantBits, 12);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    // Escreve os count dígitos hexadecimais menos significativos de value, do último para o primeiro
+    private static void hex(final byte[] chars, final int offset, long value, final int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            chars[i] = DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    private static long bits(final CharSequence value, final int from, final int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = digit(value.charAt(i));
+            if (digit >= 0) {
+                bits = (bits << 4) | digit;
+            }
+        }
+        return bits;
+    }
+
+    private static int digit(final char c) {
+        return c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+    }
+}
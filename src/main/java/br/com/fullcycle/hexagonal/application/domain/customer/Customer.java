@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.domain.customer;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
 import br.com.fullcycle.hexagonal.application.domain.person.Name;
@@ -25,8 +26,24 @@ public class Customer {
         this.setEmail(email);
     }
 
+    private Customer(final CustomerId customerId, final Name name, final Cpf cpf, final Email email) {
+        this.customerId = customerId;
+        this.name = name;
+        this.cpf = cpf;
+        this.email = email;
+    }
+
     public static Customer newCustomer(final String name, final String cpf, final String email) {
-        return new Customer(CustomerId.unique(), name, cpf, email);
+        return newCustomer(IdGenerator.random(), name, cpf, email);
+    }
+
+    public static Customer newCustomer(final IdGenerator idGenerator, final String name, final String cpf, final String email) {
+        return new Customer(CustomerId.unique(idGenerator), name, cpf, email);
+    }
+
+    // Reidratação pelos adaptadores de persistência: os valores já foram validados na escrita
+    public static Customer hydrate(final CustomerId customerId, final Name name, final Cpf cpf, final Email email) {
+        return new Customer(customerId, name, cpf, email);
     }
 
     public CustomerId getCustomerId() {
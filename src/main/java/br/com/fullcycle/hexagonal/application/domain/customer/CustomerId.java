@@ -1,26 +1,45 @@
 package br.com.fullcycle.hexagonal.application.domain.customer;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.Uuids;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record CustomerId(String value) {
+public record CustomerId(long mostSignificantBits, long leastSignificantBits) {
 
-    public CustomerId {
+    public static CustomerId unique() {
+        return unique(IdGenerator.random());
+    }
+
+    public static CustomerId unique(final IdGenerator idGenerator) {
+        return of(idGenerator.next());
+    }
+
+    public static CustomerId of(final UUID value) {
         if (value == null) {
             throw new ValidationException("Invalid value for CustomerId");
         }
-    }
-
-    public static CustomerId unique() {
-        return new CustomerId(UUID.randomUUID().toString());
+        return new CustomerId(value.getMostSignificantBits(), value.getLeastSignificantBits());
     }
 
     public static CustomerId with(final String value) {
-        try {
-            return new CustomerId(UUID.fromString(value).toString());
-        } catch (IllegalArgumentException ex) {
+        if (!Uuids.isValid(value)) {
             throw new ValidationException("Invalid value for CustomerId");
         }
+        return new CustomerId(Uuids.mostSignificantBits(value), Uuids.leastSignificantBits(value));
+    }
+
+    public String value() {
+        return Uuids.format(mostSignificantBits, leastSignificantBits);
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return value();
     }
 }
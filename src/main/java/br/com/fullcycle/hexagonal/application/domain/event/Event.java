@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.domain.event;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.person.Name;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
@@ -21,6 +22,10 @@ public class Event {
     private int totalSpots;
     private PartnerId partnerId;
     private Set<EventTicket> tickets;
+    private Set<EventTicket> ticketsView;
+    private Map<CustomerId, EventTicket> ticketsByCustomer;
+    private int lastOrdering;
+    private Long version;
 
     public Event(
             final EventId eventId,
@@ -30,7 +35,7 @@ public class Event {
             final PartnerId partnerId,
             final Set<EventTicket> tickets
     ) {
-        this(eventId, tickets);
+        this(eventId, tickets != null ? tickets : new HashSet<>(0));
         this.setName(name);
         this.setDate(date);
         this.setTotalSpots(totalSpots);
@@ -43,11 +48,15 @@ public class Event {
         }
 
         this.eventId = eventId;
-        this.tickets = tickets != null ? tickets : new HashSet<>(0);
+        this.indexTickets(tickets);
     }
 
     public static Event newEvent(final String name, final String date, final Integer totalSpots, final Partner partner) {
-        return new Event(EventId.unique(), name, date, totalSpots, partner.getPartnerId(), null);
+        return newEvent(IdGenerator.random(), name, date, totalSpots, partner);
+    }
+
+    public static Event newEvent(final IdGenerator idGenerator, final String name, final String date, final Integer totalSpots, final Partner partner) {
+        return new Event(EventId.unique(idGenerator), name, date, totalSpots, partner.getPartnerId(), null);
     }
 
     public static Event restore(
@@ -58,23 +67,67 @@ public class Event {
             final String partnerId,
             final Set<EventTicket> tickets
     ) {
-        return new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets);
+        return restore(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets);
+    }
+
+    public static Event restore(
+            final EventId id,
+            final String name,
+            final String date,
+            final int totalSpots,
+            final PartnerId partnerId,
+            final Set<EventTicket> tickets
+    ) {
+        return new Event(id, name, date, totalSpots, partnerId, tickets);
+    }
+
+    // Reidratação pelos adaptadores de persistência: sem revalidar e sem converter a data para String e de volta
+    public static Event hydrate(
+            final EventId id,
+            final Name name,
+            final LocalDate date,
+            final int totalSpots,
+            final PartnerId partnerId,
+            final Set<EventTicket> tickets,
+            final Long version
+    ) {
+        return hydrate(new Event(id, tickets), name, date, totalSpots, partnerId, version);
+    }
+
+    private static Event hydrate(
+            final Event event,
+            final Name name,
+            final LocalDate date,
+            final int totalSpots,
+            final PartnerId partnerId,
+            final Long version
+    ) {
+        event.name = name;
+        event.date = date;
+        event.totalSpots = totalSpots;
+        event.partnerId = partnerId;
+        event.version = version;
+        return event;
     }
 
     public Ticket reserveTicket(final CustomerId customerId) {
-        allTickets().stream()
-                .filter(it -> Objects.equals(it.getCustomerId(), customerId))
-                .findFirst()
-                .ifPresent(it -> {
-                    throw new ValidationException("Ticket already registered");
-                });
-        if (getTotalSpots() < allTickets().size() + ONE) {
+        return reserveTicket(IdGenerator.random(), customerId);
+    }
+
+    public Ticket reserveTicket(final IdGenerator idGenerator, final CustomerId customerId) {
+        if (this.ticketsByCustomer.containsKey(customerId)) {
+            throw new ValidationException("Ticket already registered");
+        }
+
+        final var soldSpots = this.ticketsByCustomer.size();
+        if (getTotalSpots() < soldSpots + ONE) {
             throw new ValidationException("Event sold out");
         }
 
-        final var newTicket = Ticket.newTicket(customerId, getEventId());
+        final var newTicket = Ticket.newTicket(idGenerator, customerId, getEventId());
 
-        this.tickets.add(new EventTicket(newTicket.getTicketId(), getEventId(), customerId, allTickets().size() + ONE));
+        // Maior ordering vivo + 1, não soldSpots + 1: depois de liberações a contagem repetiria o lugar de um ticket ainda ativo
+        this.addTicket(new EventTicket(newTicket.getTicketId(), getEventId(), customerId, this.lastOrdering + ONE));
 
         return newTicket;
     }
@@ -128,8 +181,38 @@ public class Event {
         this.partnerId = partnerId;
     }
 
+    // Versão lida do banco para o controle de concorrência otimista; nula enquanto o evento não foi persistido
+    public Long getVersion() {
+        return version;
+    }
+
     public Set<EventTicket> allTickets() {
-        return Collections.unmodifiableSet(tickets);
+        return this.ticketsView;
+    }
+
+    public int getSoldSpots() {
+        return this.ticketsByCustomer.size();
+    }
+
+    private void addTicket(final EventTicket ticket) {
+        this.tickets.add(ticket);
+        this.ticketsByCustomer.put(ticket.getCustomerId(), ticket);
+        this.lastOrdering = Math.max(this.lastOrdering, ticket.getOrdering());
+    }
+
+    // Índice por cliente: a verificação de ticket duplicado vira uma consulta de hash em vez de percorrer todos os tickets
+    private void indexTickets(final Set<EventTicket> tickets) {
+        final var ticketsByCustomer = new HashMap<CustomerId, EventTicket>(Math.max(16, (int) (tickets.size() / 0.75f) + ONE));
+        int lastOrdering = 0;
+        for (final var ticket : tickets) {
+            ticketsByCustomer.put(ticket.getCustomerId(), ticket);
+            lastOrdering = Math.max(lastOrdering, ticket.getOrdering());
+        }
+
+        this.tickets = tickets;
+        this.ticketsView = Collections.unmodifiableSet(tickets);
+        this.ticketsByCustomer = ticketsByCustomer;
+        this.lastOrdering = lastOrdering;
     }
 
     @Override
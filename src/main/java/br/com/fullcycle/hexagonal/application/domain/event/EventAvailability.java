@@ -0,0 +1,77 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+// Fotografia em memória dos lugares restantes por evento, para recusar inscrições em eventos esgotados sem ir ao banco.
+// Cada fotografia vale por um TTL curto: lugares podem voltar (reservas expiradas) e outras instâncias também vendem.
+public class EventAvailability {
+
+    private final ConcurrentMap<EventId, Snapshot> snapshots;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+
+    public EventAvailability(final Duration timeToLive) {
+        this(timeToLive, System::nanoTime);
+    }
+
+    EventAvailability(final Duration timeToLive, final LongSupplier nanoTime) {
+        this.snapshots = new ConcurrentHashMap<>();
+        this.timeToLiveNanos = Objects.requireNonNull(timeToLive).toNanos();
+        this.nanoTime = Objects.requireNonNull(nanoTime);
+    }
+
+    // Nunca guarda nada: todas as inscrições consultam o banco
+    public static EventAvailability disabled() {
+        return new EventAvailability(Duration.ZERO);
+    }
+
+    public boolean isSoldOut(final EventId eventId) {
+        final var snapshot = snapshotOf(eventId);
+        return snapshot != null && snapshot.remainingSpots() <= 0;
+    }
+
+    public OptionalInt remainingSpots(final EventId eventId) {
+        final var snapshot = snapshotOf(eventId);
+        return snapshot != null && snapshot.remainingSpots() >= 0
+                ? OptionalInt.of(snapshot.remainingSpots())
+                : OptionalInt.empty();
+    }
+
+    public void update(final EventId eventId, final int totalSpots, final int soldSpots) {
+        store(eventId, Math.max(0, totalSpots - soldSpots));
+    }
+
+    public void markSoldOut(final EventId eventId) {
+        store(eventId, 0);
+    }
+
+    public void invalidate(final EventId eventId) {
+        this.snapshots.remove(eventId);
+    }
+
+    private void store(final EventId eventId, final int remainingSpots) {
+        if (this.timeToLiveNanos > 0) {
+            this.snapshots.put(eventId, new Snapshot(remainingSpots, this.nanoTime.getAsLong() + this.timeToLiveNanos));
+        }
+    }
+
+    private Snapshot snapshotOf(final EventId eventId) {
+        final var snapshot = this.snapshots.get(eventId);
+        if (snapshot == null) {
+            return null;
+        }
+        if (this.nanoTime.getAsLong() - snapshot.expiresAt() >= 0) {
+            this.snapshots.remove(eventId, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    private record Snapshot(int remainingSpots, long expiresAt) {
+    }
+}
@@ -1,26 +1,45 @@
 package br.com.fullcycle.hexagonal.application.domain.event;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.Uuids;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record EventId(String value) {
+public record EventId(long mostSignificantBits, long leastSignificantBits) {
 
-    public EventId {
+    public static EventId unique() {
+        return unique(IdGenerator.random());
+    }
+
+    public static EventId unique(final IdGenerator idGenerator) {
+        return of(idGenerator.next());
+    }
+
+    public static EventId of(final UUID value) {
         if (value == null) {
             throw new ValidationException("Invalid value for EventId");
         }
-    }
-
-    public static EventId unique() {
-        return new EventId(UUID.randomUUID().toString());
+        return new EventId(value.getMostSignificantBits(), value.getLeastSignificantBits());
     }
 
     public static EventId with(final String value) {
-        try {
-            return new EventId(UUID.fromString(value).toString());
-        } catch (IllegalArgumentException ex) {
+        if (!Uuids.isValid(value)) {
             throw new ValidationException("Invalid value for EventId");
         }
+        return new EventId(Uuids.mostSignificantBits(value), Uuids.leastSignificantBits(value));
+    }
+
+    public String value() {
+        return Uuids.format(mostSignificantBits, leastSignificantBits);
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return value();
     }
 }
@@ -0,0 +1,19 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import java.util.function.Supplier;
+
+// Serializa, dentro do processo, o trabalho feito sobre um mesmo evento
+public interface EventLocks {
+
+    <T> T withLock(EventId eventId, Supplier<T> work);
+
+    // Sem trava: a consistência fica só com o banco (versão otimista e UPDATE condicional)
+    static EventLocks none() {
+        return new EventLocks() {
+            @Override
+            public <T> T withLock(final EventId eventId, final Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Tabela fixa de travas indexada pelo hash do EventId: eventos em faixas diferentes seguem em paralelo,
+// o mesmo evento nunca tem duas reservas simultâneas neste processo. Só garante exclusão num único nó.
+public class StripedEventLocks implements EventLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedEventLocks(final int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be greater than zero");
+        }
+
+        final var size = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public <T> T withLock(final EventId eventId, final Supplier<T> work) {
+        final var lock = this.stripes[stripeOf(Objects.requireNonNull(eventId))];
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int stripeOf(final EventId eventId) {
+        final var hash = eventId.hashCode();
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    int stripes() {
+        return this.stripes.length;
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.domain.event.ticket;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
@@ -32,8 +33,34 @@ public class Ticket {
         this.setReservedAt(reservedAt);
     }
 
+    private Ticket(final TicketId ticketId) {
+        this.ticketId = ticketId;
+    }
+
     public static Ticket newTicket(final CustomerId customerId, final EventId eventId) {
-        return new Ticket(TicketId.unique(), customerId, eventId, TicketStatus.PENDING, null, Instant.now());
+        return newTicket(IdGenerator.random(), customerId, eventId);
+    }
+
+    public static Ticket newTicket(final IdGenerator idGenerator, final CustomerId customerId, final EventId eventId) {
+        return new Ticket(TicketId.unique(idGenerator), customerId, eventId, TicketStatus.PENDING, null, Instant.now());
+    }
+
+    // Reidratação pelos adaptadores de persistência: os valores já foram validados na escrita
+    public static Ticket hydrate(
+            final TicketId ticketId,
+            final CustomerId customerId,
+            final EventId eventId,
+            final TicketStatus status,
+            final Instant paidAt,
+            final Instant reservedAt
+    ) {
+        final var ticket = new Ticket(ticketId);
+        ticket.customerId = customerId;
+        ticket.eventId = eventId;
+        ticket.status = status;
+        ticket.paidAt = paidAt;
+        ticket.reservedAt = reservedAt;
+        return ticket;
     }
 
     public TicketId getTicketId() {
@@ -0,0 +1,44 @@
+package br.com.fullcycle.hexagonal.application.domain.event.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.Uuids;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+// Posição numa listagem ordenada por (reservedAt, id): a próxima página começa logo depois dela.
+// O valor codificado é opaco para os clientes.
+public record TicketCursor(Instant reservedAt, TicketId ticketId) {
+
+    private static final char SEPARATOR = '|';
+
+    public TicketCursor {
+        Objects.requireNonNull(reservedAt);
+        Objects.requireNonNull(ticketId);
+    }
+
+    public static TicketCursor of(final Ticket ticket) {
+        return new TicketCursor(ticket.getReservedAt(), ticket.getTicketId());
+    }
+
+    public static TicketCursor decode(final String value) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final var separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0 || !Uuids.isValid(decoded.substring(separator + 1))) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new TicketCursor(Instant.parse(decoded.substring(0, separator)), TicketId.with(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        final var value = reservedAt.toString() + SEPARATOR + ticketId.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
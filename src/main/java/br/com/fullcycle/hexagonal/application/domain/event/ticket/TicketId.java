@@ -1,26 +1,45 @@
 package br.com.fullcycle.hexagonal.application.domain.event.ticket;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.Uuids;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record TicketId(String value) {
+public record TicketId(long mostSignificantBits, long leastSignificantBits) {
 
-    public TicketId {
+    public static TicketId unique() {
+        return unique(IdGenerator.random());
+    }
+
+    public static TicketId unique(final IdGenerator idGenerator) {
+        return of(idGenerator.next());
+    }
+
+    public static TicketId of(final UUID value) {
         if (value == null) {
             throw new ValidationException("Invalid value for TicketId");
         }
-    }
-
-    public static TicketId unique() {
-        return new TicketId(UUID.randomUUID().toString());
+        return new TicketId(value.getMostSignificantBits(), value.getLeastSignificantBits());
     }
 
     public static TicketId with(final String value) {
-        try {
-            return new TicketId(UUID.fromString(value).toString());
-        } catch (IllegalArgumentException ex) {
+        if (!Uuids.isValid(value)) {
             throw new ValidationException("Invalid value for TicketId");
         }
+        return new TicketId(Uuids.mostSignificantBits(value), Uuids.leastSignificantBits(value));
+    }
+
+    public String value() {
+        return Uuids.format(mostSignificantBits, leastSignificantBits);
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return value();
     }
-}
\ No newline at end of file
+}
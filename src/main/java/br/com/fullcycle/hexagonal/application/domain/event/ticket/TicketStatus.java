@@ -1,5 +1,16 @@
 package br.com.fullcycle.hexagonal.application.domain.event.ticket;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum TicketStatus {
     PENDING, PROCESSING, PAID;
+
+    // Estados a partir dos quais a confirmação de pagamento é aceita
+    public static final Set<TicketStatus> PAYABLE = Collections.unmodifiableSet(EnumSet.of(PENDING, PROCESSING));
+
+    public boolean isPayable() {
+        return PAYABLE.contains(this);
+    }
 }
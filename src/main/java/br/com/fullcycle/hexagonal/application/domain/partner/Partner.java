@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.domain.partner;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
 import br.com.fullcycle.hexagonal.application.domain.person.Name;
@@ -25,8 +26,24 @@ public class Partner {
         this.setEmail(email);
     }
 
+    private Partner(final PartnerId partnerId, final Name name, final Cnpj cnpj, final Email email) {
+        this.partnerId = partnerId;
+        this.name = name;
+        this.cnpj = cnpj;
+        this.email = email;
+    }
+
     public static Partner newPartner(final String name, final String cnpj, final String email) {
-        return new Partner(PartnerId.unique(), name, cnpj, email);
+        return newPartner(IdGenerator.random(), name, cnpj, email);
+    }
+
+    public static Partner newPartner(final IdGenerator idGenerator, final String name, final String cnpj, final String email) {
+        return new Partner(PartnerId.unique(idGenerator), name, cnpj, email);
+    }
+
+    // Reidratação pelos adaptadores de persistência: os valores já foram validados na escrita
+    public static Partner hydrate(final PartnerId partnerId, final Name name, final Cnpj cnpj, final Email email) {
+        return new Partner(partnerId, name, cnpj, email);
     }
 
     public PartnerId getPartnerId() {
@@ -1,26 +1,45 @@
 package br.com.fullcycle.hexagonal.application.domain.partner;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.Uuids;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record PartnerId(String value) {
+public record PartnerId(long mostSignificantBits, long leastSignificantBits) {
 
-    public PartnerId {
+    public static PartnerId unique() {
+        return unique(IdGenerator.random());
+    }
+
+    public static PartnerId unique(final IdGenerator idGenerator) {
+        return of(idGenerator.next());
+    }
+
+    public static PartnerId of(final UUID value) {
         if (value == null) {
             throw new ValidationException("Invalid value for PartnerId");
         }
-    }
-    
-    public static PartnerId unique() {
-        return new PartnerId(UUID.randomUUID().toString());
+        return new PartnerId(value.getMostSignificantBits(), value.getLeastSignificantBits());
     }
 
     public static PartnerId with(final String value) {
-        try {
-            return new PartnerId(UUID.fromString(value).toString());
-        } catch (IllegalArgumentException ex) {
+        if (!Uuids.isValid(value)) {
             throw new ValidationException("Invalid value for PartnerId");
         }
+        return new PartnerId(Uuids.mostSignificantBits(value), Uuids.leastSignificantBits(value));
+    }
+
+    public String value() {
+        return Uuids.format(mostSignificantBits, leastSignificantBits);
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return value();
     }
 }
@@ -4,9 +4,11 @@ import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 public record Cnpj(String value) {
 
+    private static final String MASK = "99.999.999/9999-99";
+
     public Cnpj {
-        if (value == null || !value.matches("^\\d{2}\\.\\d{3}\\.\\d{3}\\/\\d{4}\\-\\d{2}$")) {
+        if (!Masks.matches(value, MASK)) {
             throw new ValidationException("Invalid value for Cnpj");
         }
     }
-}
\ No newline at end of file
+}
@@ -4,9 +4,11 @@ import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 public record Cpf(String value) {
 
+    private static final String MASK = "999.999.999-99";
+
     public Cpf {
-        if (value == null || !value.matches("^\\d{3}\\.\\d{3}\\.\\d{3}\\-\\d{2}$")) {
+        if (!Masks.matches(value, MASK)) {
             throw new ValidationException("Invalid value for Cpf");
         }
     }
-}
\ No newline at end of file
+}
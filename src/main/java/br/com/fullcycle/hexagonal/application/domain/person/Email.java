@@ -5,8 +5,51 @@ import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 public record Email(String value) {
 
     public Email {
-        if (value == null || !value.matches("^\\w+([\\.-]?\\w+)*@\\w+([\\.-]?\\w+)*(\\.\\w{2,3})+$")) {
+        if (!isValid(value)) {
             throw new ValidationException("Invalid value for Email");
         }
     }
-}
\ No newline at end of file
+
+    // Equivalente a ^\w+([\.-]?\w+)*@\w+([\.-]?\w+)*(\.\w{2,3})+$ numa única passada, sem backtracking:
+    // local e domínio são trechos de \w separados por um único '.' ou '-', e o domínio termina em ".xx" ou ".xxx"
+    public static boolean isValid(final String value) {
+        if (value == null) {
+            return false;
+        }
+        final int at = value.indexOf('@');
+        if (at < 0 || !isWordRuns(value, 0, at) || !isWordRuns(value, at + 1, value.length())) {
+            return false;
+        }
+
+        final int lastDot = value.lastIndexOf('.');
+        if (lastDot < at || value.lastIndexOf('-') > lastDot) {
+            return false;
+        }
+
+        final int topLevelLength = value.length() - lastDot - 1;
+        return topLevelLength >= 2 && topLevelLength <= 3;
+    }
+
+    private static boolean isWordRuns(final String value, final int from, final int to) {
+        if (from >= to) {
+            return false;
+        }
+
+        boolean previousIsWord = false;
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            if (isWord(c)) {
+                previousIsWord = true;
+            } else if ((c == '.' || c == '-') && previousIsWord) {
+                previousIsWord = false;
+            } else {
+                return false;
+            }
+        }
+        return previousIsWord;
+    }
+
+    private static boolean isWord(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.fullcycle.hexagonal.application.domain.person;
+
+// Confere valores de tamanho fixo contra uma máscara em que '9' é um dígito ASCII e o resto é literal
+final class Masks {
+
+    private Masks() {
+    }
+
+    static boolean matches(final String value, final String mask) {
+        if (value == null || value.length() != mask.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < mask.length(); i++) {
+            final char c = value.charAt(i);
+            final char m = mask.charAt(i);
+            if (m == '9' ? (c < '0' || c > '9') : c != m) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.fullcycle.hexagonal.application.exceptions;
+
+// Escrita perdeu a disputa de concorrência otimista: os dados lidos mudaram antes do commit
+public class ConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(final String message) {
+        super(message, null, true, false);
+    }
+
+    public ConflictException(final String message, final Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
@@ -2,6 +2,8 @@ package br.com.fullcycle.hexagonal.application.exceptions;
 
 public class ValidationException extends RuntimeException {
 
+    private static final long serialVersionUID = 1L;
+
     public ValidationException(final String message) {
         super(message, null, true, false);
     }
@@ -5,7 +5,10 @@ import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CustomerRepository {
 
@@ -15,8 +18,20 @@ public interface CustomerRepository {
 
     Optional<Customer> customerOfEmail(Email email);
 
+    // Verifica CPF e e-mail numa única consulta; com e-mail nulo, só o CPF
+    boolean customerExists(Cpf cpf, Email email);
+
+    // Retornam, entre os valores informados, os que já pertencem a algum cliente
+    Set<Cpf> cpfsInUse(Collection<Cpf> cpfs);
+
+    Set<Email> emailsInUse(Collection<Email> emails);
+
+    // Lança ValidationException quando o CPF ou o e-mail já pertencem a outro cliente
     Customer create(Customer customer);
 
+    // Tudo ou nada: lança ValidationException e não grava nenhum cliente se algum CPF ou e-mail já estiver em uso
+    List<Customer> createAll(List<Customer> customers);
+
     Customer update (Customer customer);
 
     void deleteAll();
@@ -1,14 +1,35 @@
 package br.com.fullcycle.hexagonal.application.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository {
 
     Optional<Event> eventOfId(EventId id);
 
+    boolean eventExists(EventId id);
+
+    boolean hasTicketOf(EventId eventId, CustomerId customerId);
+
+    // Reserva o próximo lugar incrementando o contador de vendidos do evento, sem carregar o agregado.
+    // Retorna vazio quando o evento não existe ou não possui mais lugares.
+    Optional<EventTicket> reserveSpot(EventId eventId, TicketId ticketId, CustomerId customerId);
+
+    // Reserva o próximo lugar e grava o ticket como a única linha da reserva (mais o incremento do contador do evento);
+    // os tickets do evento passam a ser derivados dessas linhas. Retorna vazio quando o evento não existe ou não possui mais lugares.
+    Optional<EventTicket> reserveTicket(Ticket ticket);
+
+    // Devolve ao evento os lugares das reservas removidas: apaga os tickets do evento e decrementa o contador
+    void releaseSpots(EventId eventId, Collection<TicketId> ticketIds);
+
     Event create(Event event);
 
     Event update (Event event);
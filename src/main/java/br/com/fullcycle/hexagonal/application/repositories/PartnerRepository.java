@@ -15,6 +15,10 @@ public interface PartnerRepository {
 
     Optional<Partner> partnerOfEmail(Email email);
 
+    // Verifica CNPJ e e-mail numa única consulta; com e-mail nulo, só o CNPJ
+    boolean partnerExists(Cnpj cnpj, Email email);
+
+    // Lança ValidationException quando o CNPJ ou o e-mail já pertencem a outro parceiro
     Partner create(Partner partner);
 
     Partner update (Partner partner);
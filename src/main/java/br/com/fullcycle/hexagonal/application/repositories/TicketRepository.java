@@ -1,9 +1,16 @@
 package br.com.fullcycle.hexagonal.application.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketCursor;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TicketRepository {
 
@@ -13,5 +20,27 @@ public interface TicketRepository {
 
     Ticket update (Ticket event);
 
+    // Paginação por chave: até limit tickets ordenados por (reservedAt, id), a partir de after (exclusivo) ou do início quando nulo
+    List<Ticket> ticketsOfEvent(EventId eventId, TicketCursor after, int limit);
+
+    List<Ticket> ticketsOfCustomer(CustomerId customerId, TicketCursor after, int limit);
+
+    // Entrega todos os tickets do evento, um a um e na ordem (reservedAt, id), sem mantê-los em memória
+    void forEachTicketOfEvent(EventId eventId, Consumer<Ticket> action);
+
+    // PENDING reservados antes de cutoff, dos mais antigos para os mais novos, no máximo limit
+    List<Ticket> pendingReservedBefore(Instant cutoff, int limit);
+
+    Optional<Instant> oldestPendingReservedAt();
+
+    // Remove de uma vez os que ainda estão PENDING e devolve quais foram removidos; os que já saíram desse estado ficam
+    List<TicketId> deletePending(Collection<TicketId> ticketIds);
+
+    // PENDING -> PROCESSING num UPDATE condicional; false quando o ticket não existe ou já saiu de PENDING
+    boolean markProcessing(TicketId ticketId);
+
+    // Confirmação em lote num único UPDATE: PENDING ou PROCESSING -> PAID. Retorna quantos tickets mudaram de estado
+    int markPaid(Collection<TicketId> ticketIds, Instant paidAt);
+
     void deleteAll();
 }
@@ -0,0 +1,20 @@
+package br.com.fullcycle.hexagonal.application.repositories;
+
+import java.util.function.Supplier;
+
+// Executa as operações de repositório do trabalho numa única transação.
+// Conflitos de concorrência otimista são entregues como ConflictException.
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> work);
+
+    // Sem transação: para os repositórios em memória
+    static UnitOfWork direct() {
+        return new UnitOfWork() {
+            @Override
+            public <T> T execute(final Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+}
@@ -1,8 +1,15 @@
 package br.com.fullcycle.hexagonal.application.usecases;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class NullaryUseCase<OUTPUT> {
     //1. Cada caso de uso tem um input e output próprio. Não retorna a entidade, o agregado ou objeto de valor.
     //2. O caso de uso implementa o padrão Command
 
     public abstract OUTPUT execute();
+
+    public CompletableFuture<OUTPUT> executeAsync(final Executor executor) {
+        return CompletableFuture.supplyAsync(this::execute, executor);
+    }
 }
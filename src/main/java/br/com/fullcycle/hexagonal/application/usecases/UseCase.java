@@ -1,8 +1,16 @@
 package br.com.fullcycle.hexagonal.application.usecases;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class UseCase<INPUT, OUTPUT> {
     //1. Cada caso de uso tem um input e output próprio. Não retorna a entidade, o agregado ou objeto de valor.
     //2. O caso de uso implementa o padrão Command
 
     public abstract OUTPUT execute(INPUT input);
+
+    //3. A versão assíncrona roda o mesmo caso de uso no executor informado e libera a thread de quem chamou
+    public CompletableFuture<OUTPUT> executeAsync(final INPUT input, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> execute(input), executor);
+    }
 }
@@ -1,9 +1,10 @@
 package br.com.fullcycle.hexagonal.application.usecases.customer;
 
-import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
-import br.com.fullcycle.hexagonal.application.domain.person.Email;
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 
@@ -12,25 +13,43 @@ import java.util.Objects;
 public class CreateCustomerUseCase extends UseCase<CreateCustomerUseCase.Input, CreateCustomerUseCase.Output> {
 
     private final CustomerRepository customerRepository;
+    private final UniquenessMode uniquenessMode;
+    private final IdGenerator idGenerator;
 
     public CreateCustomerUseCase(final CustomerRepository customerRepository) {
+        this(customerRepository, UniquenessMode.QUERY, IdGenerator.random());
+    }
+
+    public CreateCustomerUseCase(final CustomerRepository customerRepository, final UniquenessMode uniquenessMode, final IdGenerator idGenerator) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.uniquenessMode = Objects.requireNonNull(uniquenessMode);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
     public Output execute(Input input) {
-        if (customerRepository.customerOfCpf(new Cpf(input.cpf)).isPresent()) {
-            throw new ValidationException("Customer already exists");
-        }
-        if (customerRepository.customerOfEmail(new Email(input.email)).isPresent()) {
-            throw new ValidationException("Customer already exists");
+        // Unicidade antes do agregado: CPF repetido responde "already exists" mesmo com e-mail inválido
+        if (uniquenessMode == UniquenessMode.QUERY) {
+            final var email = Email.isValid(input.email) ? new Email(input.email) : null;
+            if (customerRepository.customerExists(new Cpf(input.cpf), email)) {
+                throw new ValidationException("Customer already exists");
+            }
         }
 
-        var customer = customerRepository.create(Customer.newCustomer(input.name, input.cpf, input.email));
+        final var customer = Customer.newCustomer(idGenerator, input.name, input.cpf, input.email);
+
+        customerRepository.create(customer);
 
         return new Output(customer.getCustomerId().value(), customer.getCpf().value(), customer.getEmail().value(), customer.getName().value());
     }
 
+    // QUERY: consulta CPF e e-mail antes de inserir
+    // CONSTRAINT: insere direto e deixa as chaves únicas da base rejeitarem o duplicado
+    public enum UniquenessMode {
+        QUERY,
+        CONSTRAINT
+    }
+
     public record Input(String cpf, String email, String name) {}
     public record Output(String id, String cpf, String email, String name) {}
 }
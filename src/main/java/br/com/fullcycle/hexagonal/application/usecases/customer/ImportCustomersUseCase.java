@@ -0,0 +1,141 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+public class ImportCustomersUseCase extends UseCase<ImportCustomersUseCase.Input, ImportCustomersUseCase.Output> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final CustomerRepository customerRepository;
+    private final int chunkSize;
+    private final IdGenerator idGenerator;
+
+    public ImportCustomersUseCase(final CustomerRepository customerRepository) {
+        this(customerRepository, DEFAULT_CHUNK_SIZE, IdGenerator.random());
+    }
+
+    public ImportCustomersUseCase(final CustomerRepository customerRepository, final int chunkSize, final IdGenerator idGenerator) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.chunkSize = chunkSize;
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var items = input.customers() != null ? input.customers() : List.<Item>of();
+        final var rejected = new ArrayList<Rejected>();
+
+        // Validação em paralelo; a ordem da entrada é preservada para o relatório de rejeitados
+        final var candidates = IntStream.range(0, items.size())
+                .parallel()
+                .mapToObj(index -> candidateOf(index, items.get(index)))
+                .toList();
+
+        // Duplicidades dentro do próprio lote: vence a primeira ocorrência
+        final var accepted = new ArrayList<Candidate>(candidates.size());
+        final var cpfs = new HashSet<Cpf>();
+        final var emails = new HashSet<Email>();
+        for (final var candidate : candidates) {
+            if (candidate.error() != null) {
+                rejected.add(candidate.rejected(candidate.error()));
+                continue;
+            }
+
+            final var customer = candidate.customer();
+            if (cpfs.contains(customer.getCpf()) || emails.contains(customer.getEmail())) {
+                rejected.add(candidate.rejected("Customer already exists"));
+                continue;
+            }
+
+            cpfs.add(customer.getCpf());
+            emails.add(customer.getEmail());
+            accepted.add(candidate);
+        }
+
+        // Duplicidades contra a base: uma consulta por CPF e outra por e-mail a cada bloco, e inserção em lote
+        var imported = 0;
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            final var chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+
+            final var cpfsInUse = customerRepository.cpfsInUse(chunk.stream().map(c -> c.customer().getCpf()).toList());
+            final var emailsInUse = customerRepository.emailsInUse(chunk.stream().map(c -> c.customer().getEmail()).toList());
+
+            final var pending = new ArrayList<Candidate>(chunk.size());
+            for (final var candidate : chunk) {
+                final var customer = candidate.customer();
+                if (cpfsInUse.contains(customer.getCpf()) || emailsInUse.contains(customer.getEmail())) {
+                    rejected.add(candidate.rejected("Customer already exists"));
+                } else {
+                    pending.add(candidate);
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                imported += createChunk(pending, rejected);
+            }
+        }
+
+        rejected.sort(Comparator.comparingInt(Rejected::index));
+        return new Output(imported, rejected);
+    }
+
+    // Um cadastro concorrente entre a consulta e o INSERT derruba o bloco inteiro;
+    // nesse caso o bloco é refeito linha a linha para rejeitar só quem conflitou
+    private int createChunk(final List<Candidate> chunk, final List<Rejected> rejected) {
+        try {
+            return customerRepository.createAll(chunk.stream().map(Candidate::customer).toList()).size();
+        } catch (ValidationException ex) {
+            var imported = 0;
+            for (final var candidate : chunk) {
+                try {
+                    customerRepository.create(candidate.customer());
+                    imported++;
+                } catch (ValidationException rowEx) {
+                    rejected.add(candidate.rejected(rowEx.getMessage()));
+                }
+            }
+            return imported;
+        }
+    }
+
+    private Candidate candidateOf(final int index, final Item item) {
+        if (item == null) {
+            return new Candidate(index, null, null, "Invalid customer");
+        }
+        try {
+            return new Candidate(index, item, Customer.newCustomer(idGenerator, item.name(), item.cpf(), item.email()), null);
+        } catch (ValidationException ex) {
+            return new Candidate(index, item, null, ex.getMessage());
+        }
+    }
+
+    private record Candidate(int index, Item item, Customer customer, String error) {
+
+        Rejected rejected(final String error) {
+            return item != null
+                    ? new Rejected(index, item.cpf(), item.email(), error)
+                    : new Rejected(index, null, null, error);
+        }
+    }
+
+    public record Input(List<Item> customers) {}
+    public record Item(String cpf, String email, String name) {}
+    public record Output(int imported, List<Rejected> rejected) {}
+    public record Rejected(int index, String cpf, String email, String error) {}
+}
@@ -1,6 +1,7 @@
 package br.com.fullcycle.hexagonal.application.usecases.event;
 
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
@@ -15,9 +16,12 @@ public class CreateEventUseCase extends UseCase<CreateEventUseCase.Input, Create
 
     private final EventRepository eventRepository;
 
-    public CreateEventUseCase(final PartnerRepository partnerRepository, final EventRepository eventRepository) {
+    private final IdGenerator idGenerator;
+
+    public CreateEventUseCase(final PartnerRepository partnerRepository, final EventRepository eventRepository, final IdGenerator idGenerator) {
         this.partnerRepository = Objects.requireNonNull(partnerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
@@ -25,7 +29,7 @@ public class CreateEventUseCase extends UseCase<CreateEventUseCase.Input, Create
         var partner = partnerRepository.partnerOfId(PartnerId.with(input.partnerId))
                 .orElseThrow(() -> new ValidationException("Partner not found"));
 
-        var event = eventRepository.create(Event.newEvent(input.name, input.date, input.totalSpots, partner));
+        var event = eventRepository.create(Event.newEvent(idGenerator, input.name, input.date, input.totalSpots, partner));
 
         return new CreateEventUseCase.Output(event.getEventId().value(), input.date, event.getName().value(), input.totalSpots, input.partnerId);
     }
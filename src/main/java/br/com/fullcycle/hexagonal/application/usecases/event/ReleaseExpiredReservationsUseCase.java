@@ -0,0 +1,90 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.event.EventAvailability;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Libera um lote de reservas PENDING mais antigas que o TTL e informa quando vence a próxima.
+// Cada execução lê no máximo batchSize tickets, dos mais antigos para os mais novos, e nunca percorre a tabela inteira.
+public class ReleaseExpiredReservationsUseCase extends UseCase<ReleaseExpiredReservationsUseCase.Input, ReleaseExpiredReservationsUseCase.Output> {
+
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final EventAvailability eventAvailability;
+    private final UnitOfWork unitOfWork;
+    private final Duration timeToLive;
+    private final int batchSize;
+
+    public ReleaseExpiredReservationsUseCase(
+            final TicketRepository ticketRepository,
+            final EventRepository eventRepository,
+            final EventAvailability eventAvailability,
+            final UnitOfWork unitOfWork,
+            final Duration timeToLive,
+            final int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than zero");
+        }
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.eventAvailability = Objects.requireNonNull(eventAvailability);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var cutoff = input.now().minus(timeToLive);
+
+        final var batch = unitOfWork.execute(() -> {
+            final var expired = ticketRepository.pendingReservedBefore(cutoff, batchSize);
+            final var eventOf = new HashMap<TicketId, EventId>(expired.size() * 2);
+            expired.forEach(ticket -> eventOf.put(ticket.getTicketId(), ticket.getEventId()));
+
+            // Um único DELETE para o lote; pago ou removido entre a leitura e aqui não volta, e o lugar continua com o dono
+            final var released = new HashMap<EventId, List<TicketId>>();
+            for (final var ticketId : ticketRepository.deletePending(eventOf.keySet())) {
+                released.computeIfAbsent(eventOf.get(ticketId), it -> new ArrayList<>()).add(ticketId);
+            }
+            released.forEach(eventRepository::releaseSpots);
+            return new Batch(expired.size(), released);
+        });
+
+        batch.released().keySet().forEach(eventAvailability::invalidate);
+
+        final var releasedCount = batch.released().values().stream().mapToInt(List::size).sum();
+        return new Output(releasedCount, nextExpiry(input.now(), batch.read()));
+    }
+
+    // Lote lido cheio: ainda pode haver vencidos, roda de novo já, mesmo que parte dele já tenha sido paga.
+    // Senão, a próxima expiração é a do PENDING mais antigo
+    private Instant nextExpiry(final Instant now, final int read) {
+        if (read >= batchSize) {
+            return now;
+        }
+        return ticketRepository.oldestPendingReservedAt()
+                .map(it -> it.plus(timeToLive))
+                .orElse(null);
+    }
+
+    private record Batch(int read, Map<EventId, List<TicketId>> released) {}
+
+    public record Input(Instant now) {}
+
+    // nextExpiry é nulo quando não há nenhuma reserva PENDING
+    public record Output(int released, Instant nextExpiry) {}
+}
@@ -0,0 +1,92 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Agrupa as reservas de um mesmo evento que chegam dentro da janela (ou até atingir o tamanho máximo)
+// e entrega o lote inteiro ao handler, que aplica tudo no agregado e faz um único commit.
+final class ReservationCoalescer {
+
+    private final ConcurrentHashMap<EventId, Batch> openBatches = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxSize;
+    private final ScheduledExecutorService scheduler;
+    private final BatchHandler handler;
+
+    // O scheduler vem da infraestrutura, que controla o tamanho e o desligamento do pool
+    ReservationCoalescer(final Duration window, final int maxSize, final ScheduledExecutorService scheduler, final BatchHandler handler) {
+        this.windowNanos = window.toNanos();
+        this.maxSize = maxSize;
+        this.scheduler = scheduler;
+        this.handler = handler;
+    }
+
+    CompletableFuture<Ticket> submit(final EventId eventId, final CustomerId customerId) {
+        final var reservation = new PendingReservation(customerId, new CompletableFuture<>());
+        final var full = new Batch[1];
+
+        openBatches.compute(eventId, (id, batch) -> {
+            final var current = batch != null ? batch : openBatch(id);
+            current.reservations.add(reservation);
+            if (current.reservations.size() >= maxSize) {
+                full[0] = current;
+                return null;
+            }
+            return current;
+        });
+
+        if (full[0] != null) {
+            scheduler.execute(() -> flush(full[0]));
+        }
+
+        return reservation.ticket();
+    }
+
+    private Batch openBatch(final EventId eventId) {
+        final var batch = new Batch(eventId);
+        scheduler.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+        return batch;
+    }
+
+    // Depois de removido do mapa nenhum pedido novo entra no lote; o primeiro entre o timer e o limite de tamanho o processa
+    private void flush(final Batch batch) {
+        openBatches.remove(batch.eventId, batch);
+        if (!batch.flushed.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            handler.reserve(batch.eventId, List.copyOf(batch.reservations));
+        } catch (Throwable ex) {
+            batch.reservations.forEach(it -> it.ticket().completeExceptionally(ex));
+        }
+    }
+
+    record PendingReservation(CustomerId customerId, CompletableFuture<Ticket> ticket) {}
+
+    @FunctionalInterface
+    interface BatchHandler {
+        // Deve completar o future de cada reserva do lote
+        void reserve(EventId eventId, List<PendingReservation> reservations);
+    }
+
+    private static final class Batch {
+        private final EventId eventId;
+        private final List<PendingReservation> reservations = new ArrayList<>();
+        private final AtomicBoolean flushed = new AtomicBoolean();
+
+        private Batch(final EventId eventId) {
+            this.eventId = eventId;
+        }
+    }
+}
@@ -1,15 +1,33 @@
 package br.com.fullcycle.hexagonal.application.usecases.event;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventAvailability;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventLocks;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.exceptions.ConflictException;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerToEventUseCase.Input, SubscribeCustomerToEventUseCase.Output> {
 
@@ -18,10 +36,49 @@ public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerTo
 
     private final TicketRepository ticketRepository;
 
-    public SubscribeCustomerToEventUseCase(final CustomerRepository customerRepository, final EventRepository eventRepository, final TicketRepository ticketRepository) {
+    private final ReservationMode reservationMode;
+
+    private final EventAvailability eventAvailability;
+
+    private final UnitOfWork unitOfWork;
+
+    private final Retry retry;
+
+    private final EventLocks eventLocks;
+
+    // Nulo quando o agrupamento está desligado
+    private final ReservationCoalescer coalescer;
+
+    private final IdGenerator idGenerator;
+
+    public SubscribeCustomerToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final TicketRepository ticketRepository,
+            final ReservationMode reservationMode,
+            final EventAvailability eventAvailability,
+            final UnitOfWork unitOfWork,
+            final Retry retry,
+            final EventLocks eventLocks,
+            final Batching batching,
+            final IdGenerator idGenerator
+    ) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
         this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.reservationMode = Objects.requireNonNull(reservationMode);
+        this.eventAvailability = Objects.requireNonNull(eventAvailability);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.retry = Objects.requireNonNull(retry);
+        this.eventLocks = Objects.requireNonNull(eventLocks);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        Objects.requireNonNull(batching);
+        if (batching.enabled() && reservationMode == ReservationMode.COUNTER) {
+            throw new IllegalArgumentException("Batching is not supported in COUNTER mode");
+        }
+        this.coalescer = batching.enabled()
+                ? new ReservationCoalescer(batching.window(), batching.maxSize(), batching.scheduler(), this::reserveBatch)
+                : null;
     }
 
     @Override
@@ -29,14 +86,274 @@ public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerTo
         var customer = customerRepository.customerOfId(CustomerId.with(input.customerId))
                 .orElseThrow(() -> new ValidationException("Customer not found"));
 
-        var event = eventRepository.eventOfId(EventId.with(input.eventId))
+        final var eventId = EventId.with(input.eventId);
+
+        // Esgotado só recusa de cara quem ainda não tem ticket; quem já tem segue e recebe "Ticket already registered"
+        if (eventAvailability.isSoldOut(eventId) && !eventRepository.hasTicketOf(eventId, customer.getCustomerId())) {
+            throw new ValidationException("Event sold out");
+        }
+
+        final var ticket = coalescer != null
+                ? awaitBatched(eventId, customer.getCustomerId())
+                : reserveWithRetry(eventId, customer.getCustomerId());
+
+        return new Output(ticket.getEventId().value(), ticket.getTicketId().value(), ticket.getStatus().name(), ticket.getReservedAt());
+    }
+
+    // Cada tentativa roda na sua própria transação, com a trava do evento mantida até o commit;
+    // em conflito de versão, solta a trava, espera um tempo aleatório e relê o evento
+    private Ticket reserveWithRetry(final EventId eventId, final CustomerId customerId) {
+        return withRetry(eventId, () -> switch (reservationMode) {
+            case AGGREGATE -> reserveOnAggregate(eventId, customerId);
+            case COUNTER -> reserveOnCounter(eventId, customerId);
+            case SINGLE_WRITE -> reserveInSingleWrite(eventId, customerId);
+        });
+    }
+
+    private <T> T withRetry(final EventId eventId, final Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return eventLocks.withLock(eventId, () -> unitOfWork.execute(work));
+            } catch (ConflictException ex) {
+                if (attempt >= retry.maxAttempts()) {
+                    throw ex;
+                }
+                retry.backoff(attempt);
+            }
+        }
+    }
+
+    private Ticket reserveOnAggregate(final EventId eventId, final CustomerId customerId) {
+        var event = eventRepository.eventOfId(eventId)
                 .orElseThrow(() -> new ValidationException("Event not found"));
 
-        final var ticket = event.reserveTicket(customer.getCustomerId());
+        eventAvailability.update(eventId, event.getTotalSpots(), event.getSoldSpots());
+
+        final var ticket = event.reserveTicket(idGenerator, customerId);
         ticketRepository.create(ticket);
         eventRepository.update(event);
 
-        return new Output(event.getEventId().value(), ticket.getTicketId().value(), ticket.getStatus().name(), ticket.getReservedAt());
+        eventAvailability.update(eventId, event.getTotalSpots(), event.getSoldSpots());
+
+        return ticket;
+    }
+
+    private Ticket awaitBatched(final EventId eventId, final CustomerId customerId) {
+        try {
+            return coalescer.submit(eventId, customerId).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // Aplica o lote inteiro numa única transação: no agregado, um carregamento e um commit; no SINGLE_WRITE, uma linha
+    // por reserva, e quem perde a chave única refaz o lote sem si. Recusas de negócio (já inscrito, esgotado) afetam só
+    // o pedido correspondente; conflitos que esgotam as tentativas e as demais falhas derrubam o lote todo
+    private void reserveBatch(final EventId eventId, final List<ReservationCoalescer.PendingReservation> reservations) {
+        final var results = reservationMode == ReservationMode.SINGLE_WRITE
+                ? reserveBatchInSingleWrite(eventId, reservations)
+                : withRetry(eventId, () -> reserveBatchOnAggregate(eventId, reservations));
+
+        for (int i = 0; i < reservations.size(); i++) {
+            final var future = reservations.get(i).ticket();
+            if (results.get(i) instanceof Ticket ticket) {
+                future.complete(ticket);
+            } else {
+                future.completeExceptionally((ValidationException) results.get(i));
+            }
+        }
+    }
+
+    private List<Object> reserveBatchOnAggregate(final EventId eventId, final List<ReservationCoalescer.PendingReservation> reservations) {
+        var event = eventRepository.eventOfId(eventId)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        final var outcomes = new ArrayList<Object>(reservations.size());
+        for (final var reservation : reservations) {
+            try {
+                final var ticket = event.reserveTicket(idGenerator, reservation.customerId());
+                ticketRepository.create(ticket);
+                outcomes.add(ticket);
+            } catch (ValidationException ex) {
+                outcomes.add(ex);
+            }
+        }
+        eventRepository.update(event);
+
+        eventAvailability.update(eventId, event.getTotalSpots(), event.getSoldSpots());
+
+        return outcomes;
+    }
+
+    // Quem perde a corrida pela chave única (evento, cliente) já incrementou o contador, e a transação não pode mais
+    // ser confirmada: o lote é refeito numa nova transação sem esse pedido, que fica com a recusa
+    private List<Object> reserveBatchInSingleWrite(final EventId eventId, final List<ReservationCoalescer.PendingReservation> reservations) {
+        final var outcomes = new ArrayList<Object>(Collections.nCopies(reservations.size(), null));
+        final var pending = new ArrayList<>(IntStream.range(0, reservations.size()).boxed().toList());
+        while (!pending.isEmpty()) {
+            final var attempt = pending.stream().map(reservations::get).toList();
+            try {
+                final var results = withRetry(eventId, () -> reserveEachInSingleWrite(eventId, attempt));
+                for (int i = 0; i < pending.size(); i++) {
+                    outcomes.set(pending.get(i), results.get(i));
+                }
+                return outcomes;
+            } catch (LostReservation ex) {
+                outcomes.set(pending.remove(ex.index()), ex.rejection());
+            }
+        }
+        return outcomes;
+    }
+
+    private Ticket reserveOnCounter(final EventId eventId, final CustomerId customerId) {
+        if (eventRepository.hasTicketOf(eventId, customerId)) {
+            throw new ValidationException("Ticket already registered");
+        }
+
+        final var ticket = Ticket.newTicket(idGenerator, customerId, eventId);
+
+        if (eventRepository.reserveSpot(eventId, ticket.getTicketId(), customerId).isEmpty()) {
+            throw spotUnavailable(eventId);
+        }
+
+        ticketRepository.create(ticket);
+
+        return ticket;
+    }
+
+    // A linha do ticket é a reserva: sem o INSERT em events_tickets e sem regravar o agregado
+    private Ticket reserveInSingleWrite(final EventId eventId, final CustomerId customerId) {
+        if (eventRepository.hasTicketOf(eventId, customerId)) {
+            throw new ValidationException("Ticket already registered");
+        }
+
+        final var ticket = Ticket.newTicket(idGenerator, customerId, eventId);
+
+        if (eventRepository.reserveTicket(ticket).isEmpty()) {
+            throw spotUnavailable(eventId);
+        }
+
+        return ticket;
+    }
+
+    // Já inscrito e esgotado são recusados antes de qualquer escrita e ficam só no pedido correspondente.
+    // A chave única só recusa depois do incremento do contador: sai como LostReservation e desfaz a transação
+    private List<Object> reserveEachInSingleWrite(final EventId eventId, final List<ReservationCoalescer.PendingReservation> reservations) {
+        final var outcomes = new ArrayList<Object>(reservations.size());
+        for (int i = 0; i < reservations.size(); i++) {
+            final var customerId = reservations.get(i).customerId();
+            if (eventRepository.hasTicketOf(eventId, customerId)) {
+                outcomes.add(new ValidationException("Ticket already registered"));
+                continue;
+            }
+
+            final var ticket = Ticket.newTicket(idGenerator, customerId, eventId);
+
+            final Optional<EventTicket> reserved;
+            try {
+                reserved = eventRepository.reserveTicket(ticket);
+            } catch (ValidationException ex) {
+                throw new LostReservation(i, ex);
+            }
+            outcomes.add(reserved.isPresent() ? ticket : spotUnavailable(eventId));
+        }
+        return outcomes;
+    }
+
+    private ValidationException spotUnavailable(final EventId eventId) {
+        if (!eventRepository.eventExists(eventId)) {
+            return new ValidationException("Event not found");
+        }
+        eventAvailability.markSoldOut(eventId);
+        return new ValidationException("Event sold out");
+    }
+
+    // AGGREGATE: carrega e regrava o agregado Event inteiro (todos os tickets).
+    // COUNTER: usa o contador de lugares vendidos e a restrição única (evento, cliente), custo O(1) por inscrição.
+    // SINGLE_WRITE: como COUNTER, mas a reserva é uma única linha em tickets; os tickets do evento são derivados dela.
+    public enum ReservationMode {
+        AGGREGATE, COUNTER, SINGLE_WRITE
+    }
+
+    // Backoff exponencial com jitter total: espera aleatória entre 0 e baseBackoff * 2^(tentativa - 1)
+    public record Retry(int maxAttempts, Duration baseBackoff) {
+
+        public static final Retry DEFAULT = new Retry(5, Duration.ofMillis(10));
+
+        private static final int MAX_EXPONENT = 10;
+
+        public Retry {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be greater than zero");
+            }
+            Objects.requireNonNull(baseBackoff);
+        }
+
+        void backoff(final int attempt) {
+            final var ceiling = baseBackoff.toNanos() << Math.min(attempt - 1, MAX_EXPONENT);
+            if (ceiling <= 0) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ConflictException("Interrupted while retrying", ex);
+            }
+        }
+    }
+
+    // Janela e tamanho máximo do lote de reservas por evento; janela zero desliga o agrupamento.
+    // Com o agrupamento ligado as reservas passam pelo agregado, exceto no SINGLE_WRITE, que grava uma linha por reserva
+    // e refaz o lote sem o pedido que perder a corrida pela chave única;
+    // COUNTER não tem caminho em lote e é recusado na construção do caso de uso.
+    // O scheduler dispara o fim das janelas e só é exigido com o agrupamento ligado.
+    public record Batching(Duration window, int maxSize, ScheduledExecutorService scheduler) {
+
+        public static final Batching DISABLED = new Batching(Duration.ZERO, 1, null);
+
+        public Batching {
+            Objects.requireNonNull(window);
+            if (window.isNegative()) {
+                throw new IllegalArgumentException("window must not be negative");
+            }
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("maxSize must be greater than zero");
+            }
+            if (!window.isZero()) {
+                Objects.requireNonNull(scheduler, "scheduler cannot be null when batching is enabled");
+            }
+        }
+
+        boolean enabled() {
+            return !window.isZero();
+        }
+    }
+
+    // Recusa que chegou depois de uma escrita do lote; index é a posição do pedido na tentativa
+    private static final class LostReservation extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+        private final ValidationException rejection;
+
+        LostReservation(final int index, final ValidationException rejection) {
+            super(rejection.getMessage(), rejection, false, false);
+            this.index = index;
+            this.rejection = rejection;
+        }
+
+        int index() {
+            return index;
+        }
+
+        ValidationException rejection() {
+            return rejection;
+        }
     }
 
     public record Input(String eventId, String customerId) {}
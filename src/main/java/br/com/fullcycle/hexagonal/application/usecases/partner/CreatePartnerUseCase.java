@@ -1,9 +1,10 @@
 package br.com.fullcycle.hexagonal.application.usecases.partner;
 
-import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
-import br.com.fullcycle.hexagonal.application.domain.person.Email;
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 
@@ -12,25 +13,43 @@ import java.util.Objects;
 public class CreatePartnerUseCase extends UseCase<CreatePartnerUseCase.Input, CreatePartnerUseCase.Output> {
 
     private final PartnerRepository partnerRepository;
+    private final UniquenessMode uniquenessMode;
+    private final IdGenerator idGenerator;
 
     public CreatePartnerUseCase(final PartnerRepository partnerRepository) {
+        this(partnerRepository, UniquenessMode.QUERY, IdGenerator.random());
+    }
+
+    public CreatePartnerUseCase(final PartnerRepository partnerRepository, final UniquenessMode uniquenessMode, final IdGenerator idGenerator) {
         this.partnerRepository = Objects.requireNonNull(partnerRepository);
+        this.uniquenessMode = Objects.requireNonNull(uniquenessMode);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
     public Output execute(Input input) {
-        if (partnerRepository.partnerOfCnpj(new Cnpj(input.cnpj)).isPresent()) {
-            throw new ValidationException("Partner already exists");
-        }
-        if (partnerRepository.partnerOfEmail(new Email(input.email)).isPresent()) {
-            throw new ValidationException("Partner already exists");
+        // Unicidade antes do agregado: CNPJ repetido responde "already exists" mesmo com e-mail inválido
+        if (uniquenessMode == UniquenessMode.QUERY) {
+            final var email = Email.isValid(input.email) ? new Email(input.email) : null;
+            if (partnerRepository.partnerExists(new Cnpj(input.cnpj), email)) {
+                throw new ValidationException("Partner already exists");
+            }
         }
 
-        var partner = partnerRepository.create(Partner.newPartner(input.name, input.cnpj, input.email));
+        final var partner = Partner.newPartner(idGenerator, input.name, input.cnpj, input.email);
+
+        partnerRepository.create(partner);
 
         return new Output(partner.getPartnerId().value(), partner.getCnpj().value(), partner.getEmail().value(), partner.getName().value());
     }
 
+    // QUERY: consulta CNPJ e e-mail antes de inserir
+    // CONSTRAINT: insere direto e deixa as chaves únicas da base rejeitarem o duplicado
+    public enum UniquenessMode {
+        QUERY,
+        CONSTRAINT
+    }
+
     public record Input(String cnpj, String email, String name) {}
     public record Output(String id, String cnpj, String email, String name) {}
 }
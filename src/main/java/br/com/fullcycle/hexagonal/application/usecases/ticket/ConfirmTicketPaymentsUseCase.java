@@ -0,0 +1,64 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.Uuids;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+// Confirma pagamentos recebidos em rajada do provedor: um UPDATE por bloco de chunkSize tickets, sem carregar as entidades.
+// É idempotente: tickets já pagos, expirados ou desconhecidos não mudam e são contados como ignorados.
+public class ConfirmTicketPaymentsUseCase extends UseCase<ConfirmTicketPaymentsUseCase.Input, ConfirmTicketPaymentsUseCase.Output> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final TicketRepository ticketRepository;
+    private final UnitOfWork unitOfWork;
+    private final int chunkSize;
+
+    public ConfirmTicketPaymentsUseCase(final TicketRepository ticketRepository, final UnitOfWork unitOfWork) {
+        this(ticketRepository, unitOfWork, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ConfirmTicketPaymentsUseCase(final TicketRepository ticketRepository, final UnitOfWork unitOfWork, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var paidAt = input.paidAt() != null ? input.paidAt() : Instant.now();
+
+        // Ids repetidos na mesma rajada contam uma vez; ids malformados são ignorados sem derrubar o lote
+        final var values = input.ticketIds() != null ? input.ticketIds() : List.<String>of();
+        final var ticketIds = new LinkedHashSet<TicketId>(values.size());
+        for (final var value : values) {
+            if (Uuids.isValid(value)) {
+                ticketIds.add(TicketId.with(value));
+            }
+        }
+
+        final var ids = new ArrayList<>(ticketIds);
+        var confirmed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            final var chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            confirmed += unitOfWork.execute(() -> ticketRepository.markPaid(chunk, paidAt));
+        }
+
+        return new Output(values.size(), confirmed, values.size() - confirmed);
+    }
+
+    public record Input(List<String> ticketIds, Instant paidAt) {}
+
+    public record Output(int requested, int confirmed, int ignored) {}
+}
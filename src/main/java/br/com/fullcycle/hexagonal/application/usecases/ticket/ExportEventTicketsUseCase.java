@@ -0,0 +1,46 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// Exporta todos os tickets de um evento para o sink, um por vez: nem o agregado Event nem a lista de tickets são carregados
+public class ExportEventTicketsUseCase extends UseCase<ExportEventTicketsUseCase.Input, ExportEventTicketsUseCase.Output> {
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+
+    public ExportEventTicketsUseCase(final EventRepository eventRepository, final TicketRepository ticketRepository) {
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var eventId = EventId.with(input.eventId());
+        if (!eventRepository.eventExists(eventId)) {
+            throw new ValidationException("Event not found");
+        }
+
+        final var exported = new long[1];
+        ticketRepository.forEachTicketOfEvent(eventId, t -> {
+            input.sink().accept(new Item(t.getTicketId().value(), t.getEventId().value(), t.getCustomerId().value(), t.getStatus().name(), t.getReservedAt(), t.getPaidAt()));
+            exported[0]++;
+        });
+
+        return new Output(exported[0]);
+    }
+
+    // sink só é chamado depois de confirmado que o evento existe
+    public record Input(String eventId, Consumer<Item> sink) {}
+
+    public record Output(long exported) {}
+
+    public record Item(String id, String eventId, String customerId, String status, Instant reservedAt, Instant paidAt) {}
+}
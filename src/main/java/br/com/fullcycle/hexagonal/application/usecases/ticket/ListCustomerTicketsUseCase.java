@@ -0,0 +1,38 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+public class ListCustomerTicketsUseCase extends UseCase<ListCustomerTicketsUseCase.Input, ListCustomerTicketsUseCase.Output> {
+
+    private final TicketRepository ticketRepository;
+
+    public ListCustomerTicketsUseCase(final TicketRepository ticketRepository) {
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var limit = TicketPages.limitOf(input.limit());
+        final var rows = ticketRepository.ticketsOfCustomer(CustomerId.with(input.customerId()), TicketPages.cursorOf(input.after()), limit + 1);
+
+        final var tickets = TicketPages.pageOf(rows, limit).stream()
+                .map(t -> new Item(t.getTicketId().value(), t.getEventId().value(), t.getCustomerId().value(), t.getStatus().name(), t.getReservedAt(), t.getPaidAt()))
+                .toList();
+
+        return new Output(tickets, TicketPages.nextCursorOf(rows, limit));
+    }
+
+    // after é o nextCursor da página anterior; nulo para a primeira página
+    public record Input(String customerId, String after, Integer limit) {}
+
+    // nextCursor é nulo na última página
+    public record Output(List<Item> tickets, String nextCursor) {}
+
+    public record Item(String id, String eventId, String customerId, String status, Instant reservedAt, Instant paidAt) {}
+}
@@ -0,0 +1,36 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.util.Objects;
+
+// A transição é um UPDATE condicional, não leitura + save: se a reserva expirou (e foi removida) entre a leitura e a escrita,
+// o merge recriaria o ticket depois de o lugar já ter sido devolvido ao evento
+public class StartTicketPaymentUseCase extends UseCase<StartTicketPaymentUseCase.Input, StartTicketPaymentUseCase.Output> {
+
+    private final TicketRepository ticketRepository;
+
+    public StartTicketPaymentUseCase(final TicketRepository ticketRepository) {
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var ticketId = TicketId.with(input.ticketId());
+
+        // Nenhuma linha alterada: o ticket não existe, expirou ou já saiu de PENDING
+        if (!ticketRepository.markProcessing(ticketId)) {
+            throw new ValidationException("Ticket is not payable");
+        }
+
+        return new Output(ticketId.value(), TicketStatus.PROCESSING.name());
+    }
+
+    public record Input(String ticketId) {}
+
+    public record Output(String id, String status) {}
+}
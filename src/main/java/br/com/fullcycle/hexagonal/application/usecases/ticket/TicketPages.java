@@ -0,0 +1,40 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketCursor;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+import java.util.List;
+
+// Regras comuns às listagens de tickets paginadas por chave
+final class TicketPages {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private TicketPages() {
+    }
+
+    static int limitOf(final Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new ValidationException("Invalid limit");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    static TicketCursor cursorOf(final String after) {
+        return after == null || after.isBlank() ? null : TicketCursor.decode(after);
+    }
+
+    // Busca-se limit + 1 linhas: a linha a mais só indica que existe uma próxima página
+    static List<Ticket> pageOf(final List<Ticket> rows, final int limit) {
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+
+    static String nextCursorOf(final List<Ticket> rows, final int limit) {
+        return rows.size() > limit ? TicketCursor.of(rows.get(limit - 1)).encode() : null;
+    }
+}
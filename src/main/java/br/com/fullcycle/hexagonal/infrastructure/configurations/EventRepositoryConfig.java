@@ -0,0 +1,30 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventDatabaseRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventRepositoryConfig {
+
+    // O modo de reserva do caso de uso decide onde o adaptador grava as reservas: SINGLE_WRITE só em tickets
+    @Bean
+    public EventDatabaseRepository eventDatabaseRepository(
+            final EventJpaRepository eventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final TicketJpaRepository ticketJpaRepository,
+            final EntityManager entityManager,
+            @Value("${events.reservation.mode:AGGREGATE}") final SubscribeCustomerToEventUseCase.ReservationMode reservationMode
+    ) {
+        final var ticketStorage = reservationMode == SubscribeCustomerToEventUseCase.ReservationMode.SINGLE_WRITE
+                ? EventDatabaseRepository.TicketStorage.TICKETS
+                : EventDatabaseRepository.TicketStorage.EVENTS_TICKETS;
+        return new EventDatabaseRepository(eventJpaRepository, eventTicketJpaRepository, ticketJpaRepository, entityManager, ticketStorage);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.infrastructure.ids.TsidIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${ids.strategy:RANDOM}") final Strategy strategy) {
+        return switch (strategy) {
+            case RANDOM -> IdGenerator.random();
+            case TSID -> new TsidIdGenerator();
+        };
+    }
+
+    public enum Strategy {
+        RANDOM,
+        TSID
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CachedCustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CachedPartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerDatabaseRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerDatabaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class RepositoryCacheConfig {
+
+    @Bean
+    @Primary
+    public CustomerRepository cachedCustomerRepository(
+            final CustomerDatabaseRepository customerDatabaseRepository,
+            @Value("${customers.cache.maximum-size:10000}") final long maximumSize,
+            @Value("${customers.cache.ttl:5m}") final Duration timeToLive
+    ) {
+        return new CachedCustomerRepository(customerDatabaseRepository, maximumSize, timeToLive);
+    }
+
+    @Bean
+    @Primary
+    public PartnerRepository cachedPartnerRepository(
+            final PartnerDatabaseRepository partnerDatabaseRepository,
+            @Value("${partners.cache.maximum-size:1000}") final long maximumSize,
+            @Value("${partners.cache.ttl:5m}") final Duration timeToLive
+    ) {
+        return new CachedPartnerRepository(partnerDatabaseRepository, maximumSize, timeToLive);
+    }
+}
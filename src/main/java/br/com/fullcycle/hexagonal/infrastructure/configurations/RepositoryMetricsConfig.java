@@ -0,0 +1,44 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.metrics.MetricsProxies;
+import br.com.fullcycle.hexagonal.infrastructure.metrics.RepositoryMetricsInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerDatabaseRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventDatabaseRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerDatabaseRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketDatabaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+// Mede tempo e quantidade de statements SQL por método dos adaptadores de banco
+@Configuration
+@ConditionalOnProperty(name = "repositories.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsConfig {
+
+    private static final Set<Class<?>> DATABASE_REPOSITORIES = Set.of(
+            CustomerDatabaseRepository.class,
+            EventDatabaseRepository.class,
+            PartnerDatabaseRepository.class,
+            TicketDatabaseRepository.class
+    );
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                final var targetClass = AopUtils.getTargetClass(bean);
+                if (!DATABASE_REPOSITORIES.contains(targetClass)) {
+                    return bean;
+                }
+                return MetricsProxies.instrument(bean, new RepositoryMetricsInterceptor(meterRegistry::getObject, targetClass.getSimpleName()));
+            }
+        };
+    }
+}
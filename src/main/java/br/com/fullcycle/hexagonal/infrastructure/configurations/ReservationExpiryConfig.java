@@ -0,0 +1,44 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.usecases.event.ReleaseExpiredReservationsUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.jobs.ReservationExpirySweeper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+@ConditionalOnProperty(name = "tickets.expiry.enabled", havingValue = "true")
+public class ReservationExpiryConfig {
+
+    // Uma única thread basta: cada varredura agenda a próxima. O contexto a encerra junto com a aplicação
+    @Bean(name = "reservationExpiryScheduler", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService reservationExpiryScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "reservation-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public ReservationExpirySweeper reservationExpirySweeper(
+            final ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase,
+            @Qualifier("reservationExpiryScheduler") final ScheduledExecutorService reservationExpiryScheduler,
+            @Value("${tickets.expiry.max-interval:30s}") final Duration maxInterval
+    ) {
+        return new ReservationExpirySweeper(releaseExpiredReservationsUseCase, reservationExpiryScheduler, maxInterval);
+    }
+
+    // A primeira varredura sai com o contexto pronto, como o backfill de soldSpots
+    @Bean
+    public ApplicationRunner reservationExpirySweeperRunner(final ReservationExpirySweeper reservationExpirySweeper) {
+        return args -> reservationExpirySweeper.start();
+    }
+}
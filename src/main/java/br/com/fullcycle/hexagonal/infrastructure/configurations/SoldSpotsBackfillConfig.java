@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.jobs.SoldSpotsBackfill;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "events.sold-spots.backfill.enabled", havingValue = "true")
+public class SoldSpotsBackfillConfig {
+
+    @Bean
+    public SoldSpotsBackfill soldSpotsBackfill(final EventJpaRepository eventJpaRepository) {
+        return new SoldSpotsBackfill(eventJpaRepository);
+    }
+
+    // Roda com o contexto pronto: no init do bean a consulta disputaria a criação dos singletons com threads já iniciadas (ex.: o sweeper)
+    @Bean
+    public ApplicationRunner soldSpotsBackfillRunner(final SoldSpotsBackfill soldSpotsBackfill) {
+        return args -> soldSpotsBackfill.run();
+    }
+}
@@ -1,19 +1,35 @@
 package br.com.fullcycle.hexagonal.infrastructure.configurations;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.event.EventAvailability;
+import br.com.fullcycle.hexagonal.application.domain.event.EventLocks;
+import br.com.fullcycle.hexagonal.application.domain.event.StripedEventLocks;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.ReleaseExpiredReservationsUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.partner.CreatePartnerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.partner.GetPartnerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ConfirmTicketPaymentsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ExportEventTicketsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ListCustomerTicketsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ListEventTicketsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.StartTicketPaymentUseCase;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Configuration
 public class UseCaseConfig {
@@ -22,32 +38,39 @@ public class UseCaseConfig {
     private final EventRepository eventRepository;
     private final PartnerRepository partnerRepository;
     private final TicketRepository ticketRepository;
+    private final IdGenerator idGenerator;
 
     public UseCaseConfig(
             final CustomerRepository customerRepository,
             final EventRepository eventRepository,
             final PartnerRepository partnerRepository,
-            final TicketRepository ticketRepository
+            final TicketRepository ticketRepository,
+            final IdGenerator idGenerator
     ) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
         this.partnerRepository = Objects.requireNonNull(partnerRepository);
         this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Bean
-    public CreateCustomerUseCase createCustomerUseCase() {
-        return new CreateCustomerUseCase(customerRepository);
+    public CreateCustomerUseCase createCustomerUseCase(
+            @Value("${customers.uniqueness.mode:QUERY}") final CreateCustomerUseCase.UniquenessMode uniquenessMode
+    ) {
+        return new CreateCustomerUseCase(customerRepository, uniquenessMode, idGenerator);
     }
 
     @Bean
     public CreateEventUseCase createEventUseCase() {
-        return new CreateEventUseCase(partnerRepository, eventRepository);
+        return new CreateEventUseCase(partnerRepository, eventRepository, idGenerator);
     }
 
     @Bean
-    public CreatePartnerUseCase createPartnerUseCase() {
-        return new CreatePartnerUseCase(partnerRepository);
+    public CreatePartnerUseCase createPartnerUseCase(
+            @Value("${partners.uniqueness.mode:QUERY}") final CreatePartnerUseCase.UniquenessMode uniquenessMode
+    ) {
+        return new CreatePartnerUseCase(partnerRepository, uniquenessMode, idGenerator);
     }
 
     @Bean
@@ -55,13 +78,87 @@ public class UseCaseConfig {
         return new GetCustomerByIdUseCase(customerRepository);
     }
 
+    @Bean
+    public ImportCustomersUseCase importCustomersUseCase() {
+        return new ImportCustomersUseCase(customerRepository, ImportCustomersUseCase.DEFAULT_CHUNK_SIZE, idGenerator);
+    }
+
     @Bean
     public GetPartnerByIdUseCase getPartnerByIdUseCase() {
         return new GetPartnerByIdUseCase(partnerRepository);
     }
 
     @Bean
-    public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase() {
-        return new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+    public EventAvailability eventAvailability(@Value("${events.availability.ttl:2s}") final Duration timeToLive) {
+        return new EventAvailability(timeToLive);
+    }
+
+    @Bean
+    public ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase(
+            @Value("${tickets.expiry.ttl:15m}") final Duration timeToLive,
+            @Value("${tickets.expiry.batch-size:500}") final int batchSize,
+            final EventAvailability eventAvailability,
+            final UnitOfWork unitOfWork
+    ) {
+        return new ReleaseExpiredReservationsUseCase(ticketRepository, eventRepository, eventAvailability, unitOfWork, timeToLive, batchSize);
+    }
+
+    @Bean
+    public ListEventTicketsUseCase listEventTicketsUseCase() {
+        return new ListEventTicketsUseCase(ticketRepository);
+    }
+
+    @Bean
+    public ListCustomerTicketsUseCase listCustomerTicketsUseCase() {
+        return new ListCustomerTicketsUseCase(ticketRepository);
+    }
+
+    @Bean
+    public ExportEventTicketsUseCase exportEventTicketsUseCase() {
+        return new ExportEventTicketsUseCase(eventRepository, ticketRepository);
+    }
+
+    @Bean
+    public StartTicketPaymentUseCase startTicketPaymentUseCase() {
+        return new StartTicketPaymentUseCase(ticketRepository);
+    }
+
+    @Bean
+    public ConfirmTicketPaymentsUseCase confirmTicketPaymentsUseCase(
+            @Value("${tickets.payment.chunk-size:1000}") final int chunkSize,
+            final UnitOfWork unitOfWork
+    ) {
+        return new ConfirmTicketPaymentsUseCase(ticketRepository, unitOfWork, chunkSize);
+    }
+
+    @Bean
+    public EventLocks eventLocks(@Value("${events.reservation.lock-stripes:0}") final int stripes) {
+        return stripes > 0 ? new StripedEventLocks(stripes) : EventLocks.none();
+    }
+
+    @Bean
+    public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase(
+            @Value("${events.reservation.mode:AGGREGATE}") final SubscribeCustomerToEventUseCase.ReservationMode reservationMode,
+            @Value("${events.reservation.max-attempts:5}") final int maxAttempts,
+            @Value("${events.reservation.retry-backoff:10ms}") final Duration retryBackoff,
+            @Value("${events.reservation.batch.window:0ms}") final Duration batchWindow,
+            @Value("${events.reservation.batch.max-size:64}") final int batchMaxSize,
+            @Qualifier("reservationBatchScheduler") final ScheduledExecutorService batchScheduler,
+            final EventAvailability eventAvailability,
+            final UnitOfWork unitOfWork,
+            final EventLocks eventLocks
+    ) {
+        return new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                reservationMode,
+                eventAvailability,
+                unitOfWork,
+                new SubscribeCustomerToEventUseCase.Retry(maxAttempts, retryBackoff),
+                eventLocks,
+                new SubscribeCustomerToEventUseCase.Batching(batchWindow, batchMaxSize, batchScheduler),
+                idGenerator
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Executor onde os adaptadores rodam os casos de uso assíncronos (executeAsync).
+// Com virtual threads ligadas cada execução ganha sua própria virtual thread; senão, um pool fixo de threads.
+@Configuration
+public class UseCaseExecutorConfig {
+
+    @Bean(name = "useCaseExecutor", destroyMethod = "shutdown")
+    public ExecutorService useCaseExecutor(
+            @Value("${server.virtual-threads.enabled:false}") final boolean virtualThreads,
+            @Value("${usecases.executor.threads:64}") final int threads
+    ) {
+        if (virtualThreads) {
+            return VirtualThreadConfig.newVirtualThreadExecutor();
+        }
+        return Executors.newFixedThreadPool(threads, namedThreads());
+    }
+
+    // Dispara o fim das janelas de agrupamento de reservas (events.reservation.batch); 0 threads usa uma por processador.
+    // As threads só são criadas quando o agrupamento agenda a primeira tarefa
+    @Bean(name = "reservationBatchScheduler", destroyMethod = "shutdown")
+    public ScheduledExecutorService reservationBatchScheduler(@Value("${events.reservation.batch.threads:0}") final int threads) {
+        final var size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Executors.newScheduledThreadPool(size, daemonThreads("reservation-batch-"));
+    }
+
+    private static ThreadFactory namedThreads() {
+        final var counter = new AtomicInteger();
+        return runnable -> new Thread(runnable, "usecase-" + counter.incrementAndGet());
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
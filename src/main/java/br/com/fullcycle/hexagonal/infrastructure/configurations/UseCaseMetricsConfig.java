@@ -0,0 +1,33 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.usecases.NullaryUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.UnitUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+import br.com.fullcycle.hexagonal.infrastructure.metrics.MetricsProxies;
+import br.com.fullcycle.hexagonal.infrastructure.metrics.UseCaseMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Envolve todo bean de caso de uso num proxy que registra métricas; os casos de uso continuam sem depender do Micrometer
+@Configuration
+@ConditionalOnProperty(name = "usecases.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class UseCaseMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor useCaseMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof UseCase<?, ?> || bean instanceof UnitUseCase<?> || bean instanceof NullaryUseCase<?>)) {
+                    return bean;
+                }
+
+                return MetricsProxies.instrument(bean, new UseCaseMetricsInterceptor(meterRegistry::getObject, bean.getClass().getSimpleName()));
+            }
+        };
+    }
+}
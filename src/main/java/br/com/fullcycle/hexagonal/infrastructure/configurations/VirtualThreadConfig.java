@@ -0,0 +1,58 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.BulkheadUnitOfWork;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TransactionalUnitOfWork;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Modo opcional: requisições HTTP/GraphQL e tarefas assíncronas do Spring em virtual threads (Java 21+).
+// O projeto compila em Java 17, por isso o executor é obtido por reflexão e a aplicação não sobe se o runtime não suportar.
+// O bulkhead segura a concorrência nas transações do UnitOfWork para que milhares de virtual threads não disputem o pool do MySQL;
+// o restante dos acessos ao banco fica limitado pelo próprio pool.
+@Configuration
+@ConditionalOnProperty(name = "server.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return newVirtualThreadExecutor();
+    }
+
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("server.virtual-threads.enabled requires Java 21 or newer", ex);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler(@Qualifier("virtualThreadExecutor") final ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(@Qualifier("virtualThreadExecutor") final ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Bean
+    @Primary
+    public UnitOfWork bulkheadUnitOfWork(
+            final TransactionalUnitOfWork transactionalUnitOfWork,
+            @Value("${datasource.bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") final int permits
+    ) {
+        return new BulkheadUnitOfWork(transactionalUnitOfWork, permits);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PaymentConfirmationsDTO(List<String> ticketIds, Instant paidAt) {
+}
@@ -2,12 +2,14 @@ package br.com.fullcycle.hexagonal.infrastructure.graphql;
 
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
 import java.util.Objects;
 
 //Adapter
@@ -18,9 +20,16 @@ public class CustomerResolver {
 
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
 
-    public CustomerResolver(final CreateCustomerUseCase createCustomerUseCase, final GetCustomerByIdUseCase getCustomerByIdUseCase) {
+    private final ImportCustomersUseCase importCustomersUseCase;
+
+    public CustomerResolver(
+            final CreateCustomerUseCase createCustomerUseCase,
+            final GetCustomerByIdUseCase getCustomerByIdUseCase,
+            final ImportCustomersUseCase importCustomersUseCase
+    ) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.importCustomersUseCase = Objects.requireNonNull(importCustomersUseCase);
     }
 
     @MutationMapping
@@ -28,6 +37,15 @@ public class CustomerResolver {
         return createCustomerUseCase.execute(new CreateCustomerUseCase.Input(input.cpf(), input.email(), input.name()));
     }
 
+    @MutationMapping
+    public ImportCustomersUseCase.Output importCustomers(@Argument List<NewCustomerDTO> input) {
+        final var items = input.stream()
+                .map(dto -> new ImportCustomersUseCase.Item(dto.cpf(), dto.email(), dto.name()))
+                .toList();
+
+        return importCustomersUseCase.execute(new ImportCustomersUseCase.Input(items));
+    }
+
     @QueryMapping
     public GetCustomerByIdUseCase.Output customerOfId(@Argument String id) {
         return getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id))
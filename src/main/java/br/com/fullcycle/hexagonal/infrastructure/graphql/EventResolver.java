@@ -4,12 +4,14 @@ import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Controller
 public class EventResolver {
@@ -18,9 +20,16 @@ public class EventResolver {
 
     private SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
 
-    public EventResolver(final CreateEventUseCase createEventUseCase, final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase) {
+    private Executor useCaseExecutor;
+
+    public EventResolver(
+            final CreateEventUseCase createEventUseCase,
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            @Qualifier("useCaseExecutor") final Executor useCaseExecutor
+    ) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.useCaseExecutor = Objects.requireNonNull(useCaseExecutor);
     }
 
     @MutationMapping
@@ -28,9 +37,8 @@ public class EventResolver {
         return createEventUseCase.execute(new CreateEventUseCase.Input(input.date(), input.name(), input.partnerId(), input.totalSpots()));
     }
 
-    @Transactional
     @MutationMapping
-    public SubscribeCustomerToEventUseCase.Output subscribeCustomerToEvent(@Argument SubscribeDTO input) {
-        return subscribeCustomerToEventUseCase.execute(new SubscribeCustomerToEventUseCase.Input(input.eventId(), input.customerId()));
+    public CompletableFuture<SubscribeCustomerToEventUseCase.Output> subscribeCustomerToEvent(@Argument SubscribeDTO input) {
+        return subscribeCustomerToEventUseCase.executeAsync(new SubscribeCustomerToEventUseCase.Input(input.eventId(), input.customerId()), useCaseExecutor);
     }
 }
\ No newline at end of file
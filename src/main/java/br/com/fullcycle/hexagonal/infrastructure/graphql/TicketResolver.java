@@ -0,0 +1,36 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ListCustomerTicketsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ListEventTicketsUseCase;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Objects;
+
+//Adapter
+@Controller
+public class TicketResolver {
+
+    private final ListEventTicketsUseCase listEventTicketsUseCase;
+
+    private final ListCustomerTicketsUseCase listCustomerTicketsUseCase;
+
+    public TicketResolver(
+            final ListEventTicketsUseCase listEventTicketsUseCase,
+            final ListCustomerTicketsUseCase listCustomerTicketsUseCase
+    ) {
+        this.listEventTicketsUseCase = Objects.requireNonNull(listEventTicketsUseCase);
+        this.listCustomerTicketsUseCase = Objects.requireNonNull(listCustomerTicketsUseCase);
+    }
+
+    @QueryMapping
+    public ListEventTicketsUseCase.Output ticketsOfEvent(@Argument String eventId, @Argument String after, @Argument Integer limit) {
+        return listEventTicketsUseCase.execute(new ListEventTicketsUseCase.Input(eventId, after, limit));
+    }
+
+    @QueryMapping
+    public ListCustomerTicketsUseCase.Output ticketsOfCustomer(@Argument String customerId, @Argument String after, @Argument Integer limit) {
+        return listCustomerTicketsUseCase.execute(new ListCustomerTicketsUseCase.Input(customerId, after, limit));
+    }
+}
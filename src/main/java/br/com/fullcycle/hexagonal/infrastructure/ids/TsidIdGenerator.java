@@ -0,0 +1,31 @@
+package br.com.fullcycle.hexagonal.infrastructure.ids;
+
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import io.hypersistence.tsid.TSID;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// TSID (64 bits, ordenado pelo tempo) nos bits mais significativos e aleatoriedade nos menos significativos.
+// Como o BINARY(16) é gravado em big-endian, novas chaves entram sempre no fim do índice primário.
+public class TsidIdGenerator implements IdGenerator {
+
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+
+    private final TSID.Factory factory;
+
+    public TsidIdGenerator() {
+        this(TSID.Factory.builder().build());
+    }
+
+    public TsidIdGenerator(final TSID.Factory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public UUID next() {
+        final long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_BITS;
+        return new UUID(factory.generate().toLong(), leastSignificantBits);
+    }
+}
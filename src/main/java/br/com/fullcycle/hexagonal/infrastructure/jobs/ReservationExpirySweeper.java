@@ -0,0 +1,76 @@
+package br.com.fullcycle.hexagonal.infrastructure.jobs;
+
+import br.com.fullcycle.hexagonal.application.usecases.event.ReleaseExpiredReservationsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Agenda a liberação de reservas vencidas: em vez de varrer em intervalo fixo, dorme até a próxima expiração
+// (a cabeça do índice status, reserved_at), limitado a maxInterval, e repete imediatamente enquanto os lotes vierem cheios.
+// O scheduler é do contexto: encerrado por ele, o sweeper para de se reagendar
+public class ReservationExpirySweeper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReservationExpirySweeper.class);
+
+    private static final Duration MIN_INTERVAL = Duration.ofMillis(100);
+
+    private final ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase;
+    private final Duration maxInterval;
+    private final ScheduledExecutorService scheduler;
+
+    public ReservationExpirySweeper(
+            final ReleaseExpiredReservationsUseCase releaseExpiredReservationsUseCase,
+            final ScheduledExecutorService scheduler,
+            final Duration maxInterval
+    ) {
+        this.releaseExpiredReservationsUseCase = Objects.requireNonNull(releaseExpiredReservationsUseCase);
+        this.scheduler = Objects.requireNonNull(scheduler);
+        this.maxInterval = Objects.requireNonNull(maxInterval);
+    }
+
+    public void start() {
+        schedule(Duration.ZERO);
+    }
+
+    void sweep() {
+        var delay = this.maxInterval;
+        try {
+            final var now = Instant.now();
+            final var output = this.releaseExpiredReservationsUseCase.execute(new ReleaseExpiredReservationsUseCase.Input(now));
+            delay = delayUntil(now, output.nextExpiry());
+        } catch (RuntimeException ex) {
+            LOG.warn("Failed to release expired reservations, retrying in {}", delay, ex);
+        } finally {
+            schedule(delay);
+        }
+    }
+
+    Duration delayUntil(final Instant now, final Instant nextExpiry) {
+        if (nextExpiry == null) {
+            return this.maxInterval;
+        }
+        final var delay = Duration.between(now, nextExpiry);
+        if (delay.isNegative() || delay.isZero()) {
+            return Duration.ZERO;
+        }
+        if (delay.compareTo(this.maxInterval) > 0) {
+            return this.maxInterval;
+        }
+        // Vencimentos muito próximos são agrupados na mesma execução
+        return delay.compareTo(MIN_INTERVAL) < 0 ? MIN_INTERVAL : delay;
+    }
+
+    private void schedule(final Duration delay) {
+        try {
+            this.scheduler.schedule(this::sweep, delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            LOG.debug("Scheduler is shut down, stopping reservation expiry sweeps");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.fullcycle.hexagonal.infrastructure.jobs;
+
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+// Com ddl-auto=update a coluna soldSpots nasce zerada para os eventos que já existiam, e o caminho COUNTER
+// venderia de novo lugares já ocupados. Com a aplicação no ar, recalcula o contador desses eventos a partir de events_tickets.
+// A coluna version nasce nula nos mesmos eventos, e o update do agregado viraria um INSERT; ela parte de 0.
+// Idempotente: eventos com contador e versão preenchidos, ou sem tickets, não são tocados
+public class SoldSpotsBackfill {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoldSpotsBackfill.class);
+
+    private final EventJpaRepository eventJpaRepository;
+
+    public SoldSpotsBackfill(final EventJpaRepository eventJpaRepository) {
+        this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+    }
+
+    public void run() {
+        final var versions = this.eventJpaRepository.backfillVersion();
+        if (versions > 0) {
+            LOG.info("Backfilled version of {} events", versions);
+        }
+
+        final var events = this.eventJpaRepository.backfillSoldSpots();
+        if (events > 0) {
+            LOG.info("Backfilled soldSpots of {} events from events_tickets", events);
+        }
+    }
+}
@@ -2,15 +2,22 @@ package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
 
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.domain.person.Name;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity(name = "Customer")
-@Table(name = "customers")
+@Table(name = "customers", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_customers_cpf", columnNames = "cpf"),
+        @UniqueConstraint(name = "uk_customers_email", columnNames = "email")
+})
 public class CustomerEntity {
 
     @Id
@@ -34,7 +41,7 @@ public class CustomerEntity {
 
     public static CustomerEntity of(final Customer customer) {
         return new CustomerEntity(
-                UUID.fromString(customer.getCustomerId().value()),
+                customer.getCustomerId().toUUID(),
                 customer.getName().value(),
                 customer.getCpf().value(),
                 customer.getEmail().value()
@@ -42,7 +49,7 @@ public class CustomerEntity {
     }
 
     public Customer toCustomer() {
-        return new Customer(CustomerId.with(this.id.toString()), this.name, this.cpf, this.email);
+        return Customer.hydrate(CustomerId.of(this.id), new Name(this.name), new Cpf(this.cpf), new Email(this.email));
     }
 
     public UUID getId() {
@@ -1,11 +1,13 @@
 package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
 
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Name;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -27,7 +29,12 @@ public class EventEntity {
 
     private UUID partnerId;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "event")
+    private int soldSpots;
+
+    @Version
+    private Long version;
+
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "event")
     private Set<EventTicketEntity> tickets;
 
     public EventEntity() {
@@ -45,28 +52,36 @@ public class EventEntity {
 
     public static EventEntity of(final Event event) {
         final var entity = new EventEntity(
-                UUID.fromString(event.getEventId().value()),
+                event.getEventId().toUUID(),
                 event.getName().value(),
                 event.getDate(),
                 event.getTotalSpots(),
-                UUID.fromString(event.getPartnerId().value())
+                event.getPartnerId().toUUID()
         );
 
         event.allTickets().forEach(entity::addTicket);
+        entity.setSoldSpots(entity.getTickets().size());
+        entity.setVersion(event.getVersion());
 
         return entity;
     }
 
     public Event toEvent() {
-        return Event.restore(
-                this.getId().toString(),
-                this.getName(),
-                this.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+        return toEvent(this.getTickets().stream()
+                .map(EventTicketEntity::toEventTicket)
+                .collect(Collectors.toSet()));
+    }
+
+    // Tickets vindos de outra fonte (ex.: tabela de tickets no modo SINGLE_WRITE)
+    public Event toEvent(final Set<EventTicket> tickets) {
+        return Event.hydrate(
+                EventId.of(this.getId()),
+                new Name(this.getName()),
+                this.getDate(),
                 this.getTotalSpots(),
-                this.getPartnerId().toString(),
-                this.getTickets().stream()
-                        .map(EventTicketEntity::toEventTicket)
-                        .collect(Collectors.toSet())
+                PartnerId.of(this.getPartnerId()),
+                tickets,
+                this.getVersion()
         );
     }
 
@@ -114,6 +129,22 @@ public class EventEntity {
         this.partnerId = partnerId;
     }
 
+    public int getSoldSpots() {
+        return soldSpots;
+    }
+
+    public void setSoldSpots(int soldSpots) {
+        this.soldSpots = soldSpots;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<EventTicketEntity> getTickets() {
         return tickets;
     }
@@ -10,17 +10,23 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity(name = "EventTicket")
-@Table(name = "events_tickets")
+@Table(
+        name = "events_tickets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_events_tickets_event_customer", columnNames = {"event_id", "customer_id"}),
+        indexes = @Index(name = "idx_events_tickets_event_ordering", columnList = "event_id, ordering")
+)
 public class EventTicketEntity {
 
     @Id
     private UUID ticketId;
 
+    @Column(name = "customer_id")
     private UUID customerId;
 
     private int ordering;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
     private EventEntity event;
 
     public EventTicketEntity() {
@@ -40,18 +46,23 @@ public class EventTicketEntity {
 
     public static EventTicketEntity of(final EventEntity event, final EventTicket ev) {
         return new EventTicketEntity(
-                UUID.fromString(ev.getTicketId().value()),
-                UUID.fromString(ev.getCustomerId().value()),
+                ev.getTicketId().toUUID(),
+                ev.getCustomerId().toUUID(),
                 ev.getOrdering(),
                 event
         );
     }
 
     public EventTicket toEventTicket() {
+        return toEventTicket(EventId.of(this.event.getId()));
+    }
+
+    // Evita inicializar o proxy do evento quando o id já é conhecido pelo chamador
+    public EventTicket toEventTicket(final EventId eventId) {
         return new EventTicket(
-                TicketId.with(this.ticketId.toString()),
-                EventId.with(this.event.getId().toString()),
-                CustomerId.with(this.customerId.toString()),
+                TicketId.of(this.ticketId),
+                eventId,
+                CustomerId.of(this.customerId),
                 this.ordering
         );
     }
@@ -2,14 +2,21 @@ package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
 
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.domain.person.Name;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import java.util.UUID;
 
 @Entity(name = "Partner")
-@Table(name = "partners")
+@Table(name = "partners", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_partners_cnpj", columnNames = "cnpj"),
+        @UniqueConstraint(name = "uk_partners_email", columnNames = "email")
+})
 public class PartnerEntity {
 
     @Id
@@ -33,7 +40,7 @@ public class PartnerEntity {
 
     public static PartnerEntity of(Partner partner) {
         return new PartnerEntity(
-                UUID.fromString(partner.getPartnerId().value()),
+                partner.getPartnerId().toUUID(),
                 partner.getName().value(),
                 partner.getCnpj().value(),
                 partner.getEmail().value()
@@ -41,7 +48,7 @@ public class PartnerEntity {
     }
 
     public Partner toPartner() {
-        return new Partner(PartnerId.with(this.id.toString()), this.name, this.cnpj, this.email);
+        return Partner.hydrate(PartnerId.of(this.id), new Name(this.name), new Cnpj(this.cnpj), new Email(this.email));
     }
 
     public UUID getId() {
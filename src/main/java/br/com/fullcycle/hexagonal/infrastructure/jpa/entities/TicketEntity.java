@@ -2,6 +2,7 @@ package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
 
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
@@ -12,14 +13,25 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity(name = "Ticket")
-@Table(name = "tickets")
+@Table(
+        name = "tickets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tickets_event_customer", columnNames = {"event_id", "customer_id"}),
+        indexes = {
+                @Index(name = "idx_tickets_event_ordering", columnList = "event_id, ordering"),
+                @Index(name = "idx_tickets_status_reserved_at", columnList = "status, reserved_at"),
+                @Index(name = "idx_tickets_event_reserved_at", columnList = "event_id, reserved_at, id"),
+                @Index(name = "idx_tickets_customer_reserved_at", columnList = "customer_id, reserved_at, id")
+        }
+)
 public class TicketEntity {
 
     @Id
     private UUID id;
 
+    @Column(name = "customer_id")
     private UUID customerId;
 
+    @Column(name = "event_id")
     private UUID eventId;
 
     @Enumerated(EnumType.STRING)
@@ -27,8 +39,13 @@ public class TicketEntity {
 
     private Instant paidAt;
 
+    @Column(name = "reserved_at")
     private Instant reservedAt;
 
+    // Lugar do ticket no evento; só é preenchido no modo SINGLE_WRITE e nunca é alterado depois da reserva
+    @Column(updatable = false)
+    private Integer ordering;
+
     public TicketEntity() {
     }
 
@@ -50,20 +67,35 @@ public class TicketEntity {
 
     public static TicketEntity of(final Ticket ticket) {
         return new TicketEntity(
-                UUID.fromString(ticket.getTicketId().value()),
-                UUID.fromString(ticket.getCustomerId().value()),
-                UUID.fromString(ticket.getEventId().value()),
+                ticket.getTicketId().toUUID(),
+                ticket.getCustomerId().toUUID(),
+                ticket.getEventId().toUUID(),
                 ticket.getStatus(),
                 ticket.getPaidAt(),
                 ticket.getReservedAt()
         );
     }
 
+    public static TicketEntity of(final Ticket ticket, final int ordering) {
+        final var entity = of(ticket);
+        entity.setOrdering(ordering);
+        return entity;
+    }
+
+    public EventTicket toEventTicket() {
+        return new EventTicket(
+                TicketId.of(this.id),
+                EventId.of(this.eventId),
+                CustomerId.of(this.customerId),
+                this.ordering
+        );
+    }
+
     public Ticket toTicket() {
-        return new Ticket(
-                TicketId.with(this.id.toString()),
-                CustomerId.with(this.customerId.toString()),
-                EventId.with(this.eventId.toString()),
+        return Ticket.hydrate(
+                TicketId.of(this.id),
+                CustomerId.of(this.customerId),
+                EventId.of(this.eventId),
                 this.status,
                 this.paidAt,
                 this.reservedAt
@@ -118,6 +150,14 @@ public class TicketEntity {
         this.reservedAt = reservedAt;
     }
 
+    public Integer getOrdering() {
+        return ordering;
+    }
+
+    public void setOrdering(Integer ordering) {
+        this.ordering = ordering;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
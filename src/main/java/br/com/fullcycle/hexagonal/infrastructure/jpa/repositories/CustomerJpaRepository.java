@@ -1,9 +1,13 @@
 package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.CustomerEntity;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CustomerJpaRepository extends CrudRepository<CustomerEntity, UUID> {
@@ -11,4 +15,14 @@ public interface CustomerJpaRepository extends CrudRepository<CustomerEntity, UU
     Optional<CustomerEntity> findByCpf(String cpf);
 
     Optional<CustomerEntity> findByEmail(String email);
+
+    boolean existsByCpf(String cpf);
+
+    boolean existsByCpfOrEmail(String cpf, String email);
+
+    @Query("select c.cpf from Customer c where c.cpf in :cpfs")
+    Set<String> findCpfsIn(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("select c.email from Customer c where c.email in :emails")
+    Set<String> findEmailsIn(@Param("emails") Collection<String> emails);
 }
@@ -1,10 +1,43 @@
 package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EventJpaRepository extends CrudRepository<EventEntity, UUID> {
 
+    @Query("select e from Event e left join fetch e.tickets where e.id = :id")
+    Optional<EventEntity> findWithTicketsById(@Param("id") UUID id);
+
+    // coalesce: eventos gravados antes da coluna version a têm nula até o backfill
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.soldSpots = e.soldSpots + 1, e.version = coalesce(e.version, 0) + 1 where e.id = :id and e.soldSpots < e.totalSpots")
+    int incrementSoldSpots(@Param("id") UUID id);
+
+    // Também incrementa a versão: quem carregou o agregado antes da liberação entra em conflito e relê
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.soldSpots = e.soldSpots - :spots, e.version = coalesce(e.version, 0) + 1 where e.id = :id")
+    int decrementSoldSpots(@Param("id") UUID id, @Param("spots") int spots);
+
+    // Eventos gravados antes da coluna soldSpots ficaram com 0 mesmo tendo tickets (e abaixo de 0 se houve liberações
+    // antes do recálculo); recalcula só esses, a partir de events_tickets
+    @Transactional
+    @Modifying
+    @Query("""
+            update Event e set e.soldSpots = (select count(et) from EventTicket et where et.event.id = e.id)
+            where e.soldSpots <= 0 and exists (select 1 from EventTicket et where et.event.id = e.id)
+            """)
+    int backfillSoldSpots();
+
+    // Com version nula o save() trata o evento como novo e tenta um INSERT; eventos gravados antes da coluna partem da versão 0
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.version = 0 where e.version is null")
+    int backfillVersion();
 }
@@ -0,0 +1,26 @@
+package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventTicketEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventTicketJpaRepository extends CrudRepository<EventTicketEntity, UUID> {
+
+    boolean existsByEventIdAndCustomerId(UUID eventId, UUID customerId);
+
+    List<EventTicketEntity> findByEventId(UUID eventId);
+
+    // Busca pelo fim do índice (event_id, ordering)
+    @Query("select coalesce(max(et.ordering), 0) from EventTicket et where et.event.id = :eventId")
+    int lastOrderingOf(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("delete from EventTicket et where et.ticketId in :ticketIds")
+    int deleteByTicketIds(@Param("ticketIds") Collection<UUID> ticketIds);
+}
@@ -11,4 +11,8 @@ public interface PartnerJpaRepository extends CrudRepository<PartnerEntity, UUID
     Optional<PartnerEntity> findByCnpj(String cnpj);
 
     Optional<PartnerEntity> findByEmail(String email);
+
+    boolean existsByCnpj(String cnpj);
+
+    boolean existsByCnpjOrEmail(String cnpj, String email);
 }
\ No newline at end of file
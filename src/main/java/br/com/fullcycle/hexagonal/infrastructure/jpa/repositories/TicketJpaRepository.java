@@ -1,12 +1,106 @@
 package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.TicketEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TicketJpaRepository extends CrudRepository<TicketEntity, UUID> {
 
     Optional<TicketEntity> findByEventIdAndCustomerId(UUID id, UUID customerId);
+
+    boolean existsByEventIdAndCustomerId(UUID eventId, UUID customerId);
+
+    List<TicketEntity> findByEventId(UUID eventId);
+
+    // Busca pelo fim do índice (event_id, ordering)
+    @Query("select coalesce(max(t.ordering), 0) from Ticket t where t.eventId = :eventId")
+    int lastOrderingOf(@Param("eventId") UUID eventId);
+
+    // Listagens paginadas por chave: cada página é uma busca por faixa nos índices (event_id|customer_id, reserved_at, id)
+    @Query("select t from Ticket t where t.eventId = :eventId order by t.reservedAt asc, t.id asc")
+    List<TicketEntity> findFirstPageByEventId(@Param("eventId") UUID eventId, Pageable pageable);
+
+    @Query("""
+            select t from Ticket t
+            where t.eventId = :eventId
+              and (t.reservedAt > :reservedAt or (t.reservedAt = :reservedAt and t.id > :id))
+            order by t.reservedAt asc, t.id asc
+            """)
+    List<TicketEntity> findPageByEventIdAfter(
+            @Param("eventId") UUID eventId,
+            @Param("reservedAt") Instant reservedAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    @Query("select t from Ticket t where t.customerId = :customerId order by t.reservedAt asc, t.id asc")
+    List<TicketEntity> findFirstPageByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+
+    @Query("""
+            select t from Ticket t
+            where t.customerId = :customerId
+              and (t.reservedAt > :reservedAt or (t.reservedAt = :reservedAt and t.id > :id))
+            order by t.reservedAt asc, t.id asc
+            """)
+    List<TicketEntity> findPageByCustomerIdAfter(
+            @Param("customerId") UUID customerId,
+            @Param("reservedAt") Instant reservedAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    // Exportação: cursor JDBC lido em blocos de fetch size. A projeção cria entidades não gerenciadas,
+    // que não se acumulam no contexto de persistência enquanto o stream é consumido
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.jpa.entities.TicketEntity(t.id, t.customerId, t.eventId, t.status, t.paidAt, t.reservedAt)
+            from Ticket t
+            where t.eventId = :eventId
+            order by t.reservedAt asc, t.id asc
+            """)
+    Stream<TicketEntity> streamByEventId(@Param("eventId") UUID eventId);
+
+    // Percorre o índice (status, reserved_at) a partir do início: custo proporcional ao lote, não à tabela
+    @Query("select t from Ticket t where t.status = :status and t.reservedAt < :cutoff order by t.reservedAt asc")
+    List<TicketEntity> findByStatusReservedBefore(@Param("status") TicketStatus status, @Param("cutoff") Instant cutoff, Pageable pageable);
+
+    @Query("select min(t.reservedAt) from Ticket t where t.status = :status")
+    Optional<Instant> oldestReservedAt(@Param("status") TicketStatus status);
+
+    @Modifying
+    @Query("update Ticket t set t.status = :status where t.id = :id and t.status = :from")
+    int updateStatusById(@Param("id") UUID id, @Param("from") TicketStatus from, @Param("status") TicketStatus status);
+
+    @Modifying
+    @Query("update Ticket t set t.status = :status, t.paidAt = :paidAt where t.id in :ids and t.status in :from")
+    int updateStatusByIdIn(
+            @Param("ids") Collection<UUID> ids,
+            @Param("from") Collection<TicketStatus> from,
+            @Param("status") TicketStatus status,
+            @Param("paidAt") Instant paidAt
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from Ticket t where t.id in :ids and t.status = :status")
+    List<UUID> lockIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") TicketStatus status);
+
+    @Modifying
+    @Query("delete from Ticket t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.metrics;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+
+public final class MetricsProxies {
+
+    private MetricsProxies() {
+    }
+
+    // Beans que já são proxies (ex.: @Transactional) recebem a medição como primeiro advice, envolvendo também o commit
+    public static Object instrument(final Object bean, final Advice advice) {
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, advice);
+            return bean;
+        }
+
+        final var proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(advice);
+        return proxyFactory.getProxy();
+    }
+}
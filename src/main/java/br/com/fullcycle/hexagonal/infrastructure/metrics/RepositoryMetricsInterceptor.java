@@ -0,0 +1,68 @@
+package br.com.fullcycle.hexagonal.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Mede cada método de um adaptador de repositório:
+// repository.execution (timer por método e resultado) e repository.statements (quantos statements SQL a chamada emitiu).
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    static final String EXECUTION_METRIC = "repository.execution";
+    static final String STATEMENTS_METRIC = "repository.statements";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String repository;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> statements = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(final Supplier<MeterRegistry> meterRegistry, final String repository) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        final var method = invocation.getMethod().getName();
+        final var statementsBefore = SqlStatementCounter.current();
+        final var start = System.nanoTime();
+        var outcome = "success";
+        try {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            timerOf(method, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            statementsOf(method).record(SqlStatementCounter.current() - statementsBefore);
+        }
+    }
+
+    private Timer timerOf(final String method, final String outcome) {
+        return this.timers.computeIfAbsent(method + ':' + outcome, it -> Timer.builder(EXECUTION_METRIC)
+                .tag("repository", this.repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry.get()));
+    }
+
+    private DistributionSummary statementsOf(final String method) {
+        return this.statements.computeIfAbsent(method, it -> DistributionSummary.builder(STATEMENTS_METRIC)
+                .tag("repository", this.repository)
+                .tag("method", method)
+                .register(this.meterRegistry.get()));
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.fullcycle.hexagonal.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Registrado como hibernate.session_factory.statement_inspector: conta os statements SQL preparados pela thread atual.
+// Com batching, um lote de INSERTs iguais conta como um único statement.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    // Total acumulado na thread atual; quem mede guarda o valor antes e subtrai depois
+    public static long current() {
+        return STATEMENTS.get()[0];
+    }
+}
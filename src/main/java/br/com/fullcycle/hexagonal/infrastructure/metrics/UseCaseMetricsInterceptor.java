@@ -0,0 +1,106 @@
+package br.com.fullcycle.hexagonal.infrastructure.metrics;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ConflictException;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Mede execute/executeAsync de um caso de uso:
+// usecase.execution (timer com percentis via HdrHistogram, por resultado) e usecase.errors (por exceção e mensagem).
+// As mensagens de ValidationException são fixas no domínio, então servem de tag sem explodir a cardinalidade.
+public class UseCaseMetricsInterceptor implements MethodInterceptor {
+
+    static final String EXECUTION_METRIC = "usecase.execution";
+    static final String ERRORS_METRIC = "usecase.errors";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String useCase;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsInterceptor(final Supplier<MeterRegistry> meterRegistry, final String useCase) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.useCase = Objects.requireNonNull(useCase);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var method = invocation.getMethod().getName();
+        if (!"execute".equals(method) && !"executeAsync".equals(method)) {
+            return invocation.proceed();
+        }
+
+        final var start = System.nanoTime();
+        final Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            record(start, ex);
+            throw ex;
+        }
+
+        // Assíncrono: mede até o future completar, devolvendo o mesmo future para não alterar as exceções vistas pelo chamador
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((value, ex) -> record(start, ex));
+            return future;
+        }
+
+        record(start, null);
+        return result;
+    }
+
+    private void record(final long start, final Throwable error) {
+        final var elapsed = System.nanoTime() - start;
+        final var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        timerOf(outcomeOf(cause)).record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (cause != null) {
+            errorsOf(cause).increment();
+        }
+    }
+
+    private static String outcomeOf(final Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        if (error instanceof ValidationException) {
+            return "validation_error";
+        }
+        if (error instanceof ConflictException) {
+            return "conflict";
+        }
+        return "error";
+    }
+
+    private Timer timerOf(final String outcome) {
+        return this.timers.computeIfAbsent(outcome, it -> Timer.builder(EXECUTION_METRIC)
+                .tag("usecase", this.useCase)
+                .tag("outcome", it)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry.get()));
+    }
+
+    private Counter errorsOf(final Throwable error) {
+        final var exception = error.getClass().getSimpleName();
+        final var reason = error instanceof ValidationException && error.getMessage() != null ? error.getMessage() : "none";
+
+        return this.errors.computeIfAbsent(exception + ':' + reason, it -> Counter.builder(ERRORS_METRIC)
+                .tag("usecase", this.useCase)
+                .tag("exception", exception)
+                .tag("reason", reason)
+                .register(this.meterRegistry.get()));
+    }
+}
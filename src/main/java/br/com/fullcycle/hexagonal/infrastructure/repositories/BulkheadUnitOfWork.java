@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+// Interface Adapter
+// Limita quantas transações abertas pelo UnitOfWork rodam ao mesmo tempo ao tamanho do pool de conexões: o excedente
+// espera aqui, numa fila justa, em vez de disputar conexões no pool até estourar o connection-timeout.
+// Só cobre os casos de uso que passam pelo UnitOfWork; acessos diretos aos repositórios continuam limitados apenas pelo pool
+public class BulkheadUnitOfWork implements UnitOfWork {
+
+    private final UnitOfWork delegate;
+    private final Semaphore permits;
+
+    public BulkheadUnitOfWork(final UnitOfWork delegate, final int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be greater than zero");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.permits = new Semaphore(permits, true);
+    }
+
+    @Override
+    public <T> T execute(final Supplier<T> work) {
+        try {
+            this.permits.acquire();
+        } catch (InterruptedException ex) {
+            // Não é conflito: quem interrompeu quer que a thread pare, então nada de nova tentativa
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database connection", ex);
+        }
+        try {
+            return this.delegate.execute(work);
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+}
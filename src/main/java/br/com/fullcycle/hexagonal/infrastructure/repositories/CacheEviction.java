@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Invalida já e, dentro de uma transação, de novo ao fim dela: quem ler entre a escrita e o commit
+// recarrega a versão antiga e a guardaria no cache até o TTL
+final class CacheEviction {
+
+    private CacheEviction() {
+    }
+
+    static void evict(final Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// Decorator: cache de leitura por id (W-TinyLFU, limitado por tamanho e TTL); ausências não são cacheadas
+public class CachedCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository delegate;
+    private final Cache<CustomerId, Customer> customersById;
+
+    public CachedCustomerRepository(final CustomerRepository delegate, final long maximumSize, final Duration timeToLive) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.customersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Objects.requireNonNull(timeToLive))
+                .build();
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(final CustomerId id) {
+        Objects.requireNonNull(id, "id cannot be null");
+        return Optional.ofNullable(this.customersById.get(id, key -> this.delegate.customerOfId(key).orElse(null)));
+    }
+
+    @Override
+    public Optional<Customer> customerOfCpf(final Cpf cpf) {
+        return this.delegate.customerOfCpf(cpf);
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(final Email email) {
+        return this.delegate.customerOfEmail(email);
+    }
+
+    @Override
+    public boolean customerExists(final Cpf cpf, final Email email) {
+        return this.delegate.customerExists(cpf, email);
+    }
+
+    @Override
+    public Set<Cpf> cpfsInUse(final Collection<Cpf> cpfs) {
+        return this.delegate.cpfsInUse(cpfs);
+    }
+
+    @Override
+    public Set<Email> emailsInUse(final Collection<Email> emails) {
+        return this.delegate.emailsInUse(emails);
+    }
+
+    @Override
+    public Customer create(final Customer customer) {
+        return this.delegate.create(customer);
+    }
+
+    @Override
+    public List<Customer> createAll(final List<Customer> customers) {
+        return this.delegate.createAll(customers);
+    }
+
+    @Override
+    public Customer update(final Customer customer) {
+        try {
+            return this.delegate.update(customer);
+        } finally {
+            final var id = customer.getCustomerId();
+            CacheEviction.evict(() -> this.customersById.invalidate(id));
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            this.delegate.deleteAll();
+        } finally {
+            CacheEviction.evict(this.customersById::invalidateAll);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+// Decorator: cache de leitura por id (W-TinyLFU, limitado por tamanho e TTL); ausências não são cacheadas
+public class CachedPartnerRepository implements PartnerRepository {
+
+    private final PartnerRepository delegate;
+    private final Cache<PartnerId, Partner> partnersById;
+
+    public CachedPartnerRepository(final PartnerRepository delegate, final long maximumSize, final Duration timeToLive) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.partnersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Objects.requireNonNull(timeToLive))
+                .build();
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId id) {
+        Objects.requireNonNull(id, "id cannot be null");
+        return Optional.ofNullable(this.partnersById.get(id, key -> this.delegate.partnerOfId(key).orElse(null)));
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCnpj(final Cnpj cnpj) {
+        return this.delegate.partnerOfCnpj(cnpj);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final Email email) {
+        return this.delegate.partnerOfEmail(email);
+    }
+
+    @Override
+    public boolean partnerExists(final Cnpj cnpj, final Email email) {
+        return this.delegate.partnerExists(cnpj, email);
+    }
+
+    @Override
+    public Partner create(final Partner partner) {
+        return this.delegate.create(partner);
+    }
+
+    @Override
+    public Partner update(final Partner partner) {
+        try {
+            return this.delegate.update(partner);
+        } finally {
+            final var id = partner.getPartnerId();
+            CacheEviction.evict(() -> this.partnersById.invalidate(id));
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            this.delegate.deleteAll();
+        } finally {
+            CacheEviction.evict(this.partnersById::invalidateAll);
+        }
+    }
+}
@@ -4,30 +4,50 @@ import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.CustomerEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.CustomerJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 // Interface Adapter
 @Component
 public class CustomerDatabaseRepository implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
+    private final EntityManager entityManager;
 
-    public CustomerDatabaseRepository(final CustomerJpaRepository customerJpaRepository) {
+    // Mesmo tamanho dos lotes JDBC do Hibernate, para cada flush enviar lotes completos
+    private final int batchSize;
+
+    public CustomerDatabaseRepository(
+            final CustomerJpaRepository customerJpaRepository,
+            final EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") final int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than zero");
+        }
         this.customerJpaRepository = Objects.requireNonNull(customerJpaRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.batchSize = batchSize;
     }
 
     @Override
     public Optional<Customer> customerOfId(final CustomerId customerId) {
         Objects.requireNonNull(customerId, "id cannot be null");
-        return this.customerJpaRepository.findById(UUID.fromString(customerId.value()))
+        return this.customerJpaRepository.findById(customerId.toUUID())
                 .map(CustomerEntity::toCustomer);
     }
 
@@ -45,11 +65,71 @@ public class CustomerDatabaseRepository implements CustomerRepository {
                 .map(CustomerEntity::toCustomer);
     }
 
+    @Override
+    public boolean customerExists(final Cpf cpf, final Email email) {
+        Objects.requireNonNull(cpf, "Cpf cannot be null");
+        if (email == null) {
+            return this.customerJpaRepository.existsByCpf(cpf.value());
+        }
+        return this.customerJpaRepository.existsByCpfOrEmail(cpf.value(), email.value());
+    }
+
+    @Override
+    public Set<Cpf> cpfsInUse(final Collection<Cpf> cpfs) {
+        Objects.requireNonNull(cpfs, "Cpfs cannot be null");
+        if (cpfs.isEmpty()) {
+            return Set.of();
+        }
+        return this.customerJpaRepository.findCpfsIn(cpfs.stream().map(Cpf::value).toList()).stream()
+                .map(Cpf::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Email> emailsInUse(final Collection<Email> emails) {
+        Objects.requireNonNull(emails, "Emails cannot be null");
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return this.customerJpaRepository.findEmailsIn(emails.stream().map(Email::value).toList()).stream()
+                .map(Email::new)
+                .collect(Collectors.toSet());
+    }
+
+    // persist + flush: um único INSERT, e a violação das chaves únicas aparece aqui dentro e não no commit
     @Override
     @Transactional
     public Customer create(final Customer customer) {
-        return this.customerJpaRepository.save(CustomerEntity.of(customer))
-                .toCustomer();
+        try {
+            this.entityManager.persist(CustomerEntity.of(customer));
+            this.entityManager.flush();
+        } catch (ConstraintViolationException ex) {
+            throw new ValidationException("Customer already exists");
+        }
+        return customer;
+    }
+
+    // persist direto: o save() do Spring Data faria um SELECT por linha (merge) já que o id vem preenchido.
+    // Uma violação das chaves únicas desfaz a transação inteira, inclusive os lotes já enviados
+    @Override
+    @Transactional
+    public List<Customer> createAll(final List<Customer> customers) {
+        Objects.requireNonNull(customers, "Customers cannot be null");
+        try {
+            for (int i = 0; i < customers.size(); i++) {
+                this.entityManager.persist(CustomerEntity.of(customers.get(i)));
+                if ((i + 1) % this.batchSize == 0) {
+                    this.entityManager.flush();
+                    this.entityManager.clear();
+                }
+            }
+            this.entityManager.flush();
+        } catch (ConstraintViolationException ex) {
+            throw new ValidationException("Customer already exists");
+        } finally {
+            this.entityManager.clear();
+        }
+        return customers;
     }
 
     @Override
@@ -1,34 +1,162 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventEntity;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventTicketEntity;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.TicketEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
-import org.springframework.stereotype.Component;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 // Interface Adapter
-@Component
 public class EventDatabaseRepository implements EventRepository {
 
     private final EventJpaRepository eventJpaRepository;
 
-    public EventDatabaseRepository(final EventJpaRepository EventJpaRepository) {
+    private final EventTicketJpaRepository eventTicketJpaRepository;
+
+    private final TicketJpaRepository ticketJpaRepository;
+
+    private final EntityManager entityManager;
+
+    // TICKETS: a reserva é só a linha em tickets; events_tickets deixa de ser escrita e os tickets do evento são lidos de tickets
+    private final boolean ticketsTable;
+
+    public EventDatabaseRepository(
+            final EventJpaRepository EventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final TicketJpaRepository ticketJpaRepository,
+            final EntityManager entityManager,
+            final TicketStorage ticketStorage
+    ) {
         this.eventJpaRepository = Objects.requireNonNull(EventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
+        this.ticketJpaRepository = Objects.requireNonNull(ticketJpaRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.ticketsTable = Objects.requireNonNull(ticketStorage) == TicketStorage.TICKETS;
     }
 
     @Override
     public Optional<Event> eventOfId(final EventId anId) {
         Objects.requireNonNull(anId, "id cannot be null");
-        return this.eventJpaRepository.findById(UUID.fromString(anId.value()))
+        if (this.ticketsTable) {
+            return this.eventJpaRepository.findById(anId.toUUID())
+                    .map(entity -> entity.toEvent(loadAll(anId)));
+        }
+        return this.eventJpaRepository.findWithTicketsById(anId.toUUID())
                 .map(EventEntity::toEvent);
     }
 
+    private Set<EventTicket> loadAll(final EventId eventId) {
+        if (this.ticketsTable) {
+            return this.ticketJpaRepository.findByEventId(eventId.toUUID()).stream()
+                    .map(TicketEntity::toEventTicket)
+                    .collect(Collectors.toSet());
+        }
+        return this.eventTicketJpaRepository.findByEventId(eventId.toUUID()).stream()
+                .map(it -> it.toEventTicket(eventId))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean eventExists(final EventId anId) {
+        Objects.requireNonNull(anId, "id cannot be null");
+        return this.eventJpaRepository.existsById(anId.toUUID());
+    }
+
+    @Override
+    public boolean hasTicketOf(final EventId eventId, final CustomerId customerId) {
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        Objects.requireNonNull(customerId, "customerId cannot be null");
+        if (this.ticketsTable) {
+            return this.ticketJpaRepository.existsByEventIdAndCustomerId(eventId.toUUID(), customerId.toUUID());
+        }
+        return this.eventTicketJpaRepository.existsByEventIdAndCustomerId(eventId.toUUID(), customerId.toUUID());
+    }
+
+    @Override
+    @Transactional
+    public Optional<EventTicket> reserveSpot(final EventId eventId, final TicketId ticketId, final CustomerId customerId) {
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        final var id = eventId.toUUID();
+
+        // UPDATE condicional: só incrementa enquanto houver lugares, e trava a linha do evento até o commit
+        if (this.eventJpaRepository.incrementSoldSpots(id) == 0) {
+            return Optional.empty();
+        }
+
+        // Com a linha do evento travada, o maior ordering vivo + 1 não colide com outra reserva nem com tickets que sobreviveram a liberações
+        final var ticket = new EventTicket(ticketId, eventId, customerId, this.eventTicketJpaRepository.lastOrderingOf(id) + 1);
+
+        // Referência ao evento sem carregá-lo: só a chave estrangeira é necessária para o INSERT.
+        // hasTicketOf seguido do INSERT não é atômico: a chave única (evento, cliente) decide a corrida, e o flush aqui
+        // a traz para dentro do método em vez de estourar no commit
+        try {
+            this.entityManager.persist(EventTicketEntity.of(this.entityManager.getReference(EventEntity.class, id), ticket));
+            this.entityManager.flush();
+        } catch (ConstraintViolationException ex) {
+            throw new ValidationException("Ticket already registered");
+        }
+        return Optional.of(ticket);
+    }
+
+    // Um UPDATE condicional do contador e um único INSERT (persist, sem o SELECT do merge) em tickets.
+    // Com EVENTS_TICKETS a reserva continua em events_tickets e o ticket é gravado ao lado, na mesma transação
+    @Override
+    @Transactional
+    public Optional<EventTicket> reserveTicket(final Ticket ticket) {
+        Objects.requireNonNull(ticket, "ticket cannot be null");
+        if (!this.ticketsTable) {
+            final var reserved = reserveSpot(ticket.getEventId(), ticket.getTicketId(), ticket.getCustomerId());
+            reserved.ifPresent(it -> this.entityManager.persist(TicketEntity.of(ticket, it.getOrdering())));
+            return reserved;
+        }
+
+        final var id = ticket.getEventId().toUUID();
+        if (this.eventJpaRepository.incrementSoldSpots(id) == 0) {
+            return Optional.empty();
+        }
+
+        final var ordering = this.ticketJpaRepository.lastOrderingOf(id) + 1;
+        try {
+            this.entityManager.persist(TicketEntity.of(ticket, ordering));
+            this.entityManager.flush();
+        } catch (ConstraintViolationException ex) {
+            throw new ValidationException("Ticket already registered");
+        }
+
+        return Optional.of(new EventTicket(ticket.getTicketId(), ticket.getEventId(), ticket.getCustomerId(), ordering));
+    }
+
+    @Override
+    @Transactional
+    public void releaseSpots(final EventId eventId, final Collection<TicketId> ticketIds) {
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        if (ticketIds.isEmpty()) {
+            return;
+        }
+        if (!this.ticketsTable) {
+            this.eventTicketJpaRepository.deleteByTicketIds(ticketIds.stream().map(TicketId::toUUID).toList());
+        }
+        this.eventJpaRepository.decrementSoldSpots(eventId.toUUID(), ticketIds.size());
+    }
+
     @Override
     @Transactional
     public Event create(final Event Event) {
@@ -36,11 +164,18 @@ public class EventDatabaseRepository implements EventRepository {
                 .toEvent();
     }
 
+    // flush aqui para que a checagem de @Version aconteça dentro do update e a versão devolvida já seja a nova
     @Override
     @Transactional
     public Event update(Event Event) {
-        return this.eventJpaRepository.save(EventEntity.of(Event))
-                .toEvent();
+        final var entity = EventEntity.of(Event);
+        if (this.ticketsTable) {
+            // tickets já gravados um a um em tickets; aqui só o cabeçalho e o contador
+            entity.getTickets().clear();
+        }
+        final var saved = this.eventJpaRepository.save(entity);
+        this.entityManager.flush();
+        return this.ticketsTable ? saved.toEvent(Event.allTickets()) : saved.toEvent();
     }
 
     @Override
@@ -48,4 +183,12 @@ public class EventDatabaseRepository implements EventRepository {
         this.eventJpaRepository.deleteAll();
     }
 
-}
\ No newline at end of file
+    // Onde ficam as reservas de cada evento
+    // EVENTS_TICKETS: em events_tickets, ligadas ao agregado Event
+    // TICKETS: só na tabela tickets, que passa a ser a fonte dos tickets do evento
+    public enum TicketStorage {
+        EVENTS_TICKETS,
+        TICKETS
+    }
+
+}
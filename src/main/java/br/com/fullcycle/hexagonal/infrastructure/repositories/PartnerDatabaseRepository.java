@@ -4,30 +4,34 @@ import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.PartnerEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.PartnerJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 // Interface Adapter
 @Component
 public class PartnerDatabaseRepository implements PartnerRepository {
 
     private final PartnerJpaRepository partnerJpaRepository;
+    private final EntityManager entityManager;
 
-    public PartnerDatabaseRepository(final PartnerJpaRepository partnerJpaRepository) {
+    public PartnerDatabaseRepository(final PartnerJpaRepository partnerJpaRepository, final EntityManager entityManager) {
         this.partnerJpaRepository = Objects.requireNonNull(partnerJpaRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
     }
 
     @Override
     public Optional<Partner> partnerOfId(final PartnerId anId) {
         Objects.requireNonNull(anId, "id cannot be null");
-        return this.partnerJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.partnerJpaRepository.findById(anId.toUUID())
                 .map(PartnerEntity::toPartner);
     }
 
@@ -45,11 +49,26 @@ public class PartnerDatabaseRepository implements PartnerRepository {
                 .map(PartnerEntity::toPartner);
     }
 
+    @Override
+    public boolean partnerExists(final Cnpj cnpj, final Email email) {
+        Objects.requireNonNull(cnpj, "Cnpj cannot be null");
+        if (email == null) {
+            return this.partnerJpaRepository.existsByCnpj(cnpj.value());
+        }
+        return this.partnerJpaRepository.existsByCnpjOrEmail(cnpj.value(), email.value());
+    }
+
+    // persist + flush: um único INSERT, e a violação das chaves únicas aparece aqui dentro e não no commit
     @Override
     @Transactional
     public Partner create(final Partner partner) {
-        return this.partnerJpaRepository.save(PartnerEntity.of(partner))
-                .toPartner();
+        try {
+            this.entityManager.persist(PartnerEntity.of(partner));
+            this.entityManager.flush();
+        } catch (ConstraintViolationException ex) {
+            throw new ValidationException("Partner already exists");
+        }
+        return partner;
     }
 
     @Override
@@ -1,16 +1,24 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketCursor;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.TicketEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 // Interface Adapter
 @Component
@@ -25,7 +33,7 @@ public class TicketDatabaseRepository implements TicketRepository {
     @Override
     public Optional<Ticket> ticketOfId(final TicketId anId) {
         Objects.requireNonNull(anId, "id cannot be null");
-        return this.ticketJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.ticketJpaRepository.findById(anId.toUUID())
                 .map(TicketEntity::toTicket);
     }
 
@@ -43,6 +51,86 @@ public class TicketDatabaseRepository implements TicketRepository {
                 .toTicket();
     }
 
+    @Override
+    public List<Ticket> ticketsOfEvent(final EventId eventId, final TicketCursor after, final int limit) {
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        final var page = PageRequest.of(0, limit);
+        final var entities = after == null
+                ? this.ticketJpaRepository.findFirstPageByEventId(eventId.toUUID(), page)
+                : this.ticketJpaRepository.findPageByEventIdAfter(eventId.toUUID(), after.reservedAt(), after.ticketId().toUUID(), page);
+        return entities.stream()
+                .map(TicketEntity::toTicket)
+                .toList();
+    }
+
+    @Override
+    public List<Ticket> ticketsOfCustomer(final CustomerId customerId, final TicketCursor after, final int limit) {
+        Objects.requireNonNull(customerId, "customerId cannot be null");
+        final var page = PageRequest.of(0, limit);
+        final var entities = after == null
+                ? this.ticketJpaRepository.findFirstPageByCustomerId(customerId.toUUID(), page)
+                : this.ticketJpaRepository.findPageByCustomerIdAfter(customerId.toUUID(), after.reservedAt(), after.ticketId().toUUID(), page);
+        return entities.stream()
+                .map(TicketEntity::toTicket)
+                .toList();
+    }
+
+    // O stream precisa ser consumido dentro da transação que mantém o cursor aberto
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTicketOfEvent(final EventId eventId, final Consumer<Ticket> action) {
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        try (final var entities = this.ticketJpaRepository.streamByEventId(eventId.toUUID())) {
+            entities.map(TicketEntity::toTicket).forEach(action);
+        }
+    }
+
+    @Override
+    public List<Ticket> pendingReservedBefore(final Instant cutoff, final int limit) {
+        Objects.requireNonNull(cutoff, "cutoff cannot be null");
+        return this.ticketJpaRepository.findByStatusReservedBefore(TicketStatus.PENDING, cutoff, PageRequest.of(0, limit)).stream()
+                .map(TicketEntity::toTicket)
+                .toList();
+    }
+
+    @Override
+    public Optional<Instant> oldestPendingReservedAt() {
+        return this.ticketJpaRepository.oldestReservedAt(TicketStatus.PENDING);
+    }
+
+    @Override
+    @Transactional
+    public List<TicketId> deletePending(final Collection<TicketId> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+        // SELECT ... FOR UPDATE dos ainda PENDING e um único DELETE: o pagamento que chegar depois espera o lock e encontra 0 linhas
+        final var pending = this.ticketJpaRepository.lockIdsByIdInAndStatus(ticketIds.stream().map(TicketId::toUUID).toList(), TicketStatus.PENDING);
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        this.ticketJpaRepository.deleteByIdIn(pending);
+        return pending.stream().map(TicketId::of).toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean markProcessing(final TicketId ticketId) {
+        Objects.requireNonNull(ticketId, "ticketId cannot be null");
+        return this.ticketJpaRepository.updateStatusById(ticketId.toUUID(), TicketStatus.PENDING, TicketStatus.PROCESSING) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int markPaid(final Collection<TicketId> ticketIds, final Instant paidAt) {
+        Objects.requireNonNull(paidAt, "paidAt cannot be null");
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+        final var ids = ticketIds.stream().map(TicketId::toUUID).toList();
+        return this.ticketJpaRepository.updateStatusByIdIn(ids, TicketStatus.PAYABLE, TicketStatus.PAID, paidAt);
+    }
+
     @Override
     public void deleteAll() {
         this.ticketJpaRepository.deleteAll();;
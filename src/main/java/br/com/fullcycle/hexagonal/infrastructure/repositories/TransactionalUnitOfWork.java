@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ConflictException;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Interface Adapter
+@Component
+public class TransactionalUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionalUnitOfWork(final PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    }
+
+    @Override
+    public <T> T execute(final Supplier<T> work) {
+        try {
+            return this.transactionTemplate.execute(status -> work.get());
+        } catch (OptimisticLockException | OptimisticLockingFailureException ex) {
+            throw new ConflictException("Concurrent modification", ex);
+        }
+    }
+}
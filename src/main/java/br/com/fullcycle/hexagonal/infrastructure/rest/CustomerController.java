@@ -3,11 +3,14 @@ package br.com.fullcycle.hexagonal.infrastructure.rest;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ListCustomerTicketsUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 //Adapter
@@ -19,9 +22,20 @@ public class CustomerController {
 
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
 
-    public CustomerController(final CreateCustomerUseCase createCustomerUseCase, final GetCustomerByIdUseCase getCustomerByIdUseCase) {
+    private final ImportCustomersUseCase importCustomersUseCase;
+
+    private final ListCustomerTicketsUseCase listCustomerTicketsUseCase;
+
+    public CustomerController(
+            final CreateCustomerUseCase createCustomerUseCase,
+            final GetCustomerByIdUseCase getCustomerByIdUseCase,
+            final ImportCustomersUseCase importCustomersUseCase,
+            final ListCustomerTicketsUseCase listCustomerTicketsUseCase
+    ) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.importCustomersUseCase = Objects.requireNonNull(importCustomersUseCase);
+        this.listCustomerTicketsUseCase = Objects.requireNonNull(listCustomerTicketsUseCase);
     }
 
     @PostMapping
@@ -35,10 +49,32 @@ public class CustomerController {
         }
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<?> importAll(@RequestBody List<NewCustomerDTO> dtos) {
+        final var items = dtos.stream()
+                .map(dto -> dto != null ? new ImportCustomersUseCase.Item(dto.cpf(), dto.email(), dto.name()) : null)
+                .toList();
+
+        return ResponseEntity.ok(importCustomersUseCase.execute(new ImportCustomersUseCase.Input(items)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> get(@PathVariable String id) {
         return getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id))
                 .map(ResponseEntity::ok)
                 .orElseGet(ResponseEntity.notFound()::build);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/tickets")
+    public ResponseEntity<?> tickets(
+            @PathVariable String id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(listCustomerTicketsUseCase.execute(new ListCustomerTicketsUseCase.Input(id, after, limit)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package br.com.fullcycle.hexagonal.infrastructure.rest;
 
+import br.com.fullcycle.hexagonal.application.exceptions.ConflictException;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ExportEventTicketsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ListEventTicketsUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 //Adapter
 @RestController
@@ -23,9 +37,24 @@ public class EventController {
 
     private SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
 
-    public EventController(final CreateEventUseCase createEventUseCase, final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase) {
+    private ListEventTicketsUseCase listEventTicketsUseCase;
+
+    private ExportEventTicketsUseCase exportEventTicketsUseCase;
+
+    private Executor useCaseExecutor;
+
+    public EventController(
+            final CreateEventUseCase createEventUseCase,
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            final ListEventTicketsUseCase listEventTicketsUseCase,
+            final ExportEventTicketsUseCase exportEventTicketsUseCase,
+            @Qualifier("useCaseExecutor") final Executor useCaseExecutor
+    ) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.listEventTicketsUseCase = Objects.requireNonNull(listEventTicketsUseCase);
+        this.exportEventTicketsUseCase = Objects.requireNonNull(exportEventTicketsUseCase);
+        this.useCaseExecutor = Objects.requireNonNull(useCaseExecutor);
     }
 
     @PostMapping
@@ -40,15 +69,78 @@ public class EventController {
         }
     }
 
-    @Transactional
+    // A thread do servlet é liberada enquanto a reserva aguarda o banco; a resposta é escrita quando o future completa
     @PostMapping(value = "/{id}/subscribe")
-    public ResponseEntity<?> subscribe(@PathVariable String id, @RequestBody SubscribeDTO dto) {
+    public CompletableFuture<ResponseEntity<?>> subscribe(@PathVariable String id, @RequestBody SubscribeDTO dto) {
+        return subscribeCustomerToEventUseCase.executeAsync(new SubscribeCustomerToEventUseCase.Input(id, dto.customerId()), useCaseExecutor)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(EventController::subscribeError);
+    }
+
+    @GetMapping(value = "/{id}/tickets")
+    public ResponseEntity<?> tickets(
+            @PathVariable String id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit
+    ) {
         try {
-            final var output = subscribeCustomerToEventUseCase.execute(new SubscribeCustomerToEventUseCase.Input(id, dto.customerId()));
+            return ResponseEntity.ok(listEventTicketsUseCase.execute(new ListEventTicketsUseCase.Input(id, after, limit)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
 
-            return ResponseEntity.ok(output);
+    // As linhas vão do cursor do banco direto para a resposta: a memória usada não depende do tamanho do evento.
+    // Uma falha de escrita (cliente desconectado) interrompe a leitura e fecha o cursor
+    @GetMapping(value = "/{id}/tickets/export")
+    public void export(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        final var exportFormat = TicketExportFormat.of(format).orElse(null);
+        if (exportFormat == null) {
+            writeError(response, "Invalid format");
+            return;
+        }
+
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition", "attachment; filename=\"event-%s-tickets.%s\"".formatted(id, exportFormat.extension()));
+
+        final var writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            exportFormat.writeHeader(writer);
+            exportEventTicketsUseCase.execute(new ExportEventTicketsUseCase.Input(id, item -> {
+                try {
+                    exportFormat.writeRow(writer, item);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+            writer.flush();
         } catch (ValidationException ex) {
+            // Evento inexistente é detectado antes da primeira linha; só o cabeçalho, ainda no buffer, precisa ser descartado
+            response.reset();
+            writeError(response, ex.getMessage());
+        }
+    }
+
+    private static void writeError(final HttpServletResponse response, final String message) throws IOException {
+        response.setStatus(UNPROCESSABLE_ENTITY.value());
+        response.setContentType("text/plain");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResponseEntity<?> subscribeError(final Throwable error) {
+        final var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ValidationException ex) {
             return ResponseEntity.unprocessableEntity().body(ex.getMessage());
         }
+        if (cause instanceof ConflictException ex) {
+            return ResponseEntity.status(CONFLICT).body(ex.getMessage());
+        }
+        throw cause instanceof RuntimeException ex ? ex : new CompletionException(cause);
     }
 }
@@ -0,0 +1,43 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ConfirmTicketPaymentsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ticket.StartTicketPaymentUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.PaymentConfirmationsDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Objects;
+
+//Adapter
+@RestController
+@RequestMapping(value = "tickets")
+public class TicketController {
+
+    private final StartTicketPaymentUseCase startTicketPaymentUseCase;
+
+    private final ConfirmTicketPaymentsUseCase confirmTicketPaymentsUseCase;
+
+    public TicketController(
+            final StartTicketPaymentUseCase startTicketPaymentUseCase,
+            final ConfirmTicketPaymentsUseCase confirmTicketPaymentsUseCase
+    ) {
+        this.startTicketPaymentUseCase = Objects.requireNonNull(startTicketPaymentUseCase);
+        this.confirmTicketPaymentsUseCase = Objects.requireNonNull(confirmTicketPaymentsUseCase);
+    }
+
+    @PostMapping("/{id}/payment")
+    public ResponseEntity<?> startPayment(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(startTicketPaymentUseCase.execute(new StartTicketPaymentUseCase.Input(id)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    // Callback do provedor de pagamento: milhares de tickets por chamada, confirmados em UPDATEs por bloco
+    @PostMapping("/payments/confirmations")
+    public ResponseEntity<?> confirmPayments(@RequestBody PaymentConfirmationsDTO dto) {
+        return ResponseEntity.ok(confirmTicketPaymentsUseCase.execute(new ConfirmTicketPaymentsUseCase.Input(dto.ticketIds(), dto.paidAt())));
+    }
+}
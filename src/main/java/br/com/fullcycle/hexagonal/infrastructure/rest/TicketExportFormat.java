@@ -0,0 +1,90 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import br.com.fullcycle.hexagonal.application.usecases.ticket.ExportEventTicketsUseCase;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Optional;
+
+// Formatos da exportação de tickets. Os campos são UUIDs, nomes de enum e instantes ISO-8601,
+// que não contêm vírgulas, aspas nem quebras de linha: nenhum deles precisa de escape
+enum TicketExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(final Writer writer) throws IOException {
+            writer.write("id,eventId,customerId,status,reservedAt,paidAt\n");
+        }
+
+        @Override
+        void writeRow(final Writer writer, final ExportEventTicketsUseCase.Item item) throws IOException {
+            writer.write(item.id());
+            writer.write(',');
+            writer.write(item.eventId());
+            writer.write(',');
+            writer.write(item.customerId());
+            writer.write(',');
+            writer.write(item.status());
+            writer.write(',');
+            writer.write(item.reservedAt().toString());
+            writer.write(',');
+            if (item.paidAt() != null) {
+                writer.write(item.paidAt().toString());
+            }
+            writer.write('\n');
+        }
+    },
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeHeader(final Writer writer) {
+        }
+
+        @Override
+        void writeRow(final Writer writer, final ExportEventTicketsUseCase.Item item) throws IOException {
+            writer.write("{\"id\":\"");
+            writer.write(item.id());
+            writer.write("\",\"eventId\":\"");
+            writer.write(item.eventId());
+            writer.write("\",\"customerId\":\"");
+            writer.write(item.customerId());
+            writer.write("\",\"status\":\"");
+            writer.write(item.status());
+            writer.write("\",\"reservedAt\":\"");
+            writer.write(item.reservedAt().toString());
+            writer.write("\",\"paidAt\":");
+            writer.write(item.paidAt() != null ? "\"" + item.paidAt() + "\"" : "null");
+            writer.write("}\n");
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    TicketExportFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    static Optional<TicketExportFormat> of(final String value) {
+        for (final var format : values()) {
+            if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, ExportEventTicketsUseCase.Item item) throws IOException;
+}
@@ -0,0 +1,73 @@
+package br.com.fullcycle.hexagonal.application.domain;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+class UuidsTest {
+
+    @Test
+    @DisplayName("Deve converter um UUID canônico para dois longs e de volta")
+    public void testRoundTrip() {
+        // given
+        final var expectedUUID = UUID.randomUUID();
+        final var expectedValue = expectedUUID.toString();
+
+        // when
+        final var actualMostSignificantBits = Uuids.mostSignificantBits(expectedValue);
+        final var actualLeastSignificantBits = Uuids.leastSignificantBits(expectedValue);
+
+        // then
+        Assertions.assertTrue(Uuids.isValid(expectedValue));
+        Assertions.assertEquals(expectedUUID.getMostSignificantBits(), actualMostSignificantBits);
+        Assertions.assertEquals(expectedUUID.getLeastSignificantBits(), actualLeastSignificantBits);
+        Assertions.assertEquals(expectedValue, Uuids.format(actualMostSignificantBits, actualLeastSignificantBits));
+    }
+
+    @Test
+    @DisplayName("Deve formatar os dois longs como UUID.toString, inclusive nos valores extremos")
+    public void testFormat() {
+        final long[] values = {0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x0123456789abcdefL, 0xfedcba9876543210L};
+        for (final var mostSignificantBits : values) {
+            for (final var leastSignificantBits : values) {
+                Assertions.assertEquals(
+                        new UUID(mostSignificantBits, leastSignificantBits).toString(),
+                        Uuids.format(mostSignificantBits, leastSignificantBits)
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aceitar UUID em letras maiúsculas e normalizar para minúsculas")
+    public void testUpperCase() {
+        // given
+        final var expectedValue = "123e4567-e89b-12d3-a456-426614174000";
+
+        // when
+        final var actualId = CustomerId.with(expectedValue.toUpperCase());
+
+        // then
+        Assertions.assertEquals(expectedValue, actualId.value());
+        Assertions.assertEquals(UUID.fromString(expectedValue), actualId.toUUID());
+        Assertions.assertEquals(CustomerId.of(UUID.fromString(expectedValue)), actualId);
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar valores que não são UUIDs canônicos")
+    public void testInvalidValues() {
+        Assertions.assertFalse(Uuids.isValid(null));
+        Assertions.assertFalse(Uuids.isValid(""));
+        Assertions.assertFalse(Uuids.isValid("123e4567-e89b-12d3-a456-42661417400"));
+        Assertions.assertFalse(Uuids.isValid("123e4567-e89b-12d3-a456-42661417400g"));
+        Assertions.assertFalse(Uuids.isValid("123e4567+e89b-12d3-a456-426614174000"));
+        Assertions.assertFalse(Uuids.isValid("123e4567-e89b-12d3-a456-4266141740é0"));
+
+        final var actualError = Assertions.assertThrows(ValidationException.class, () -> CustomerId.with("john"));
+        Assertions.assertEquals("Invalid value for CustomerId", actualError.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class EventAvailabilityTest {
+
+    @Test
+    @DisplayName("Deve informar lugares restantes e esgotamento até o TTL expirar")
+    public void testSnapshotExpires() {
+        // given
+        final var now = new AtomicLong();
+        final var availability = new EventAvailability(Duration.ofSeconds(2), now::get);
+        final var anEventId = EventId.unique();
+
+        // when
+        availability.update(anEventId, 10, 9);
+
+        // then
+        Assertions.assertFalse(availability.isSoldOut(anEventId));
+        Assertions.assertEquals(1, availability.remainingSpots(anEventId).getAsInt());
+
+        availability.update(anEventId, 10, 10);
+        Assertions.assertTrue(availability.isSoldOut(anEventId));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        Assertions.assertFalse(availability.isSoldOut(anEventId));
+        Assertions.assertTrue(availability.remainingSpots(anEventId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar nada quando desligado")
+    public void testDisabled() {
+        // given
+        final var availability = EventAvailability.disabled();
+        final var anEventId = EventId.unique();
+
+        // when
+        availability.markSoldOut(anEventId);
+
+        // then
+        Assertions.assertFalse(availability.isSoldOut(anEventId));
+    }
+}
@@ -1,14 +1,22 @@
 package br.com.fullcycle.hexagonal.application.domain.event;
 
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Name;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
 
 public class EventTest {
 
@@ -137,4 +145,93 @@ public class EventTest {
         // then
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
+
+    @Test
+    @DisplayName("Não deve reservar dois tickets para um mesmo cliente em um evento restaurado")
+    public void testReserveTwoTicketsForTheSameClientOnRestoredEvent() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEventId = EventId.unique();
+        final var aCustomerId = CustomerId.unique();
+        final var expectedError = "Ticket already registered";
+        final var expectedSoldSpots = 100;
+
+        final var tickets = new HashSet<EventTicket>();
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, aCustomerId, 1));
+        for (int i = 2; i <= expectedSoldSpots; i++) {
+            tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), i));
+        }
+
+        final var actualEvent = Event.restore(anEventId.value(), "Disney on Ice", "2021-01-01", 1000, aPartner.getPartnerId().value(), tickets);
+
+        // when
+        final var actualError = Assertions.assertThrows(ValidationException.class, () -> actualEvent.reserveTicket(CustomerId.with(aCustomerId.value())));
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+        Assertions.assertEquals(expectedSoldSpots, actualEvent.getSoldSpots());
+
+        final var actualTicket = actualEvent.reserveTicket(CustomerId.unique());
+        Assertions.assertEquals(expectedSoldSpots + 1, actualEvent.getSoldSpots());
+        Assertions.assertEquals(expectedSoldSpots + 1, orderingOf(actualEvent, actualTicket));
+    }
+
+    @Test
+    @DisplayName("Deve numerar o novo ticket depois do maior ordering mesmo com lugares liberados")
+    public void testReserveTicketAfterReleasedSpots() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEventId = EventId.unique();
+
+        final var tickets = new HashSet<EventTicket>();
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 2));
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 3));
+
+        final var actualEvent = Event.restore(anEventId.value(), "Disney on Ice", "2021-01-01", 10, aPartner.getPartnerId().value(), tickets);
+
+        // when
+        final var actualTicket = actualEvent.reserveTicket(CustomerId.unique());
+
+        // then
+        Assertions.assertEquals(3, actualEvent.getSoldSpots());
+        Assertions.assertEquals(4, orderingOf(actualEvent, actualTicket));
+    }
+
+    @Test
+    @DisplayName("Deve reidratar um evento persistido mantendo data e tickets")
+    public void testHydrateEvent() {
+        //given
+        final var expectedEventId = EventId.unique();
+        final var expectedName = new Name("Disney on Ice");
+        final var expectedDate = LocalDate.of(2021, 1, 1);
+        final var expectedTotalSpots = 2;
+        final var expectedPartnerId = PartnerId.unique();
+        final var aTicket = new EventTicket(TicketId.unique(), expectedEventId, CustomerId.unique(), 1);
+
+        //when
+        final var actualEvent = Event.hydrate(
+                expectedEventId, expectedName, expectedDate, expectedTotalSpots, expectedPartnerId, new HashSet<>(Set.of(aTicket)), 3L
+        );
+        actualEvent.reserveTicket(CustomerId.unique());
+
+        //then
+        Assertions.assertEquals(expectedEventId, actualEvent.getEventId());
+        Assertions.assertEquals(expectedName, actualEvent.getName());
+        Assertions.assertSame(expectedDate, actualEvent.getDate());
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getTotalSpots());
+        Assertions.assertEquals(expectedPartnerId, actualEvent.getPartnerId());
+        Assertions.assertEquals(3L, actualEvent.getVersion());
+        Assertions.assertEquals(2, actualEvent.getSoldSpots());
+
+        final var actualError = Assertions.assertThrows(ValidationException.class, () -> actualEvent.reserveTicket(CustomerId.unique()));
+        Assertions.assertEquals("Event sold out", actualError.getMessage());
+    }
+
+    private static int orderingOf(final Event event, final Ticket ticket) {
+        return event.allTickets().stream()
+                .filter(it -> it.getTicketId().equals(ticket.getTicketId()))
+                .findFirst()
+                .orElseThrow()
+                .getOrdering();
+    }
 }
@@ -0,0 +1,68 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StripedEventLocksTest {
+
+    @Test
+    @DisplayName("Deve arredondar o número de faixas para potência de dois e mapear o mesmo evento sempre na mesma faixa")
+    public void testStripeOf() {
+        // given
+        final var locks = new StripedEventLocks(10);
+        final var anEventId = EventId.unique();
+
+        // when
+        final var stripe = locks.stripeOf(anEventId);
+
+        // then
+        Assertions.assertEquals(16, locks.stripes());
+        Assertions.assertEquals(stripe, locks.stripeOf(EventId.with(anEventId.value())));
+        Assertions.assertTrue(stripe >= 0 && stripe < 16);
+    }
+
+    @Test
+    @DisplayName("Não deve executar duas vezes ao mesmo tempo o trabalho de um mesmo evento")
+    public void testSerializesSameEvent() throws Exception {
+        // given
+        final var locks = new StripedEventLocks(4);
+        final var anEventId = EventId.unique();
+        final var inside = new AtomicInteger();
+        final var maxInside = new AtomicInteger();
+        final var done = new CountDownLatch(200);
+        final var executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                locks.withLock(anEventId, () -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    return inside.decrementAndGet();
+                });
+                done.countDown();
+            });
+        }
+
+        // then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assertions.assertEquals(1, maxInside.get());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar zero faixas")
+    public void testInvalidStripes() {
+        // when
+        final var actualError = Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedEventLocks(0));
+
+        // then
+        Assertions.assertEquals("stripes must be greater than zero", actualError.getMessage());
+    }
+}
@@ -4,6 +4,7 @@ import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 class EmailTest {
 
@@ -45,4 +46,28 @@ class EmailTest {
         // then
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve aceitar e-mails com ponto, hífen e subdomínios")
+    public void testCreateEmailWithSeparators() {
+        Assertions.assertDoesNotThrow(() -> new Email("john.doe-smith@mail.example.com.br"));
+        Assertions.assertThrows(ValidationException.class, () -> new Email("john..doe@gmail.com"));
+        Assertions.assertThrows(ValidationException.class, () -> new Email("john@gmail.c"));
+        Assertions.assertThrows(ValidationException.class, () -> new Email("john@gmail.com-br"));
+    }
+
+    @Test
+    @Timeout(1)
+    @DisplayName("Deve rejeitar um e-mail longo e inválido em tempo linear")
+    public void testCreateEmailWithLongInvalidValue() {
+        // given
+        final var expectedError = "Invalid value for Email";
+        final var longValue = "a".repeat(100_000) + "@" + "a".repeat(100_000) + "!";
+
+        // when
+        final var actualError = Assertions.assertThrows(ValidationException.class, () -> new Email(longValue));
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+}
@@ -4,12 +4,18 @@ import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class InMemoryCustomerRepository implements CustomerRepository {
 
@@ -38,8 +44,45 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         return Optional.ofNullable(this.customersByEmail.get(email.value()));
     }
 
+    @Override
+    public Set<Cpf> cpfsInUse(Collection<Cpf> cpfs) {
+        return cpfs.stream()
+                .filter(cpf -> this.customersByCPF.containsKey(cpf.value()))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Email> emailsInUse(Collection<Email> emails) {
+        return emails.stream()
+                .filter(email -> this.customersByEmail.containsKey(email.value()))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<Customer> createAll(List<Customer> customers) {
+        final var cpfs = new HashSet<String>();
+        final var emails = new HashSet<String>();
+        for (final var customer : customers) {
+            if (customerExists(customer.getCpf(), customer.getEmail())
+                    || !cpfs.add(customer.getCpf().value())
+                    || !emails.add(customer.getEmail().value())) {
+                throw new ValidationException("Customer already exists");
+            }
+        }
+        customers.forEach(this::create);
+        return customers;
+    }
+
+    @Override
+    public boolean customerExists(Cpf cpf, Email email) {
+        return this.customersByCPF.containsKey(cpf.value()) || (email != null && this.customersByEmail.containsKey(email.value()));
+    }
+
     @Override
     public Customer create(Customer customer) {
+        if (customerExists(customer.getCpf(), customer.getEmail())) {
+            throw new ValidationException("Customer already exists");
+        }
         this.customers.put(customer.getCustomerId().value(), customer);
         this.customersByCPF.put(customer.getCpf().value(), customer);
         this.customersByEmail.put(customer.getEmail().value(), customer);
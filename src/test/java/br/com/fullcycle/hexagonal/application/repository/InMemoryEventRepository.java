@@ -1,20 +1,29 @@
 package br.com.fullcycle.hexagonal.application.repository;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class InMemoryEventRepository implements EventRepository {
 
     private final Map<String, Event> events;
+    private final Map<String, Map<CustomerId, EventTicket>> reservedSpots;
 
     public InMemoryEventRepository() {
         this.events = new HashMap<>();
+        this.reservedSpots = new HashMap<>();
     }
 
     @Override
@@ -22,6 +31,52 @@ public class InMemoryEventRepository implements EventRepository {
         return Optional.ofNullable(this.events.get(Objects.requireNonNull(anId).value()));
     }
 
+    @Override
+    public boolean eventExists(EventId anId) {
+        return this.events.containsKey(Objects.requireNonNull(anId).value());
+    }
+
+    @Override
+    public boolean hasTicketOf(EventId eventId, CustomerId customerId) {
+        // Consulta direta, como o EXISTS do adaptador de banco: não conta como carregamento do evento
+        return Optional.ofNullable(this.events.get(Objects.requireNonNull(eventId).value()))
+                .map(event -> event.allTickets().stream().anyMatch(it -> it.getCustomerId().equals(customerId))
+                        || reservedSpotsOf(eventId).containsKey(customerId))
+                .orElse(false);
+    }
+
+    @Override
+    public Optional<EventTicket> reserveSpot(EventId eventId, TicketId ticketId, CustomerId customerId) {
+        return eventOfId(eventId)
+                .filter(event -> event.getTotalSpots() > soldSpotsOf(event))
+                .map(event -> {
+                    final var ticket = new EventTicket(ticketId, eventId, customerId, lastOrderingOf(event) + 1);
+                    reservedSpotsOf(eventId).put(customerId, ticket);
+                    return ticket;
+                });
+    }
+
+    @Override
+    public Optional<EventTicket> reserveTicket(Ticket ticket) {
+        return reserveSpot(ticket.getEventId(), ticket.getTicketId(), ticket.getCustomerId());
+    }
+
+    @Override
+    public void releaseSpots(EventId eventId, Collection<TicketId> ticketIds) {
+        reservedSpotsOf(eventId).values().removeIf(it -> ticketIds.contains(it.getTicketId()));
+        eventOfId(eventId).ifPresent(event -> this.events.put(eventId.value(), Event.hydrate(
+                event.getEventId(),
+                event.getName(),
+                event.getDate(),
+                event.getTotalSpots(),
+                event.getPartnerId(),
+                event.allTickets().stream()
+                        .filter(it -> !ticketIds.contains(it.getTicketId()))
+                        .collect(Collectors.toSet()),
+                event.getVersion()
+        )));
+    }
+
     @Override
     public Event create(Event event) {
         this.events.put(event.getEventId().value(), event);
@@ -37,6 +92,21 @@ public class InMemoryEventRepository implements EventRepository {
     @Override
     public void deleteAll() {
         this.events.clear();
+        this.reservedSpots.clear();
     }
 
-}
\ No newline at end of file
+    public int soldSpotsOf(Event event) {
+        return event.allTickets().size() + reservedSpotsOf(event.getEventId()).size();
+    }
+
+    private int lastOrderingOf(Event event) {
+        return Stream.concat(event.allTickets().stream(), reservedSpotsOf(event.getEventId()).values().stream())
+                .mapToInt(EventTicket::getOrdering)
+                .max()
+                .orElse(0);
+    }
+
+    private Map<CustomerId, EventTicket> reservedSpotsOf(EventId eventId) {
+        return this.reservedSpots.computeIfAbsent(eventId.value(), key -> new HashMap<>());
+    }
+}
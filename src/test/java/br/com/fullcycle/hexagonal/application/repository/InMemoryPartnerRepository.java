@@ -4,6 +4,7 @@ import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 
 import java.util.HashMap;
@@ -38,8 +39,16 @@ public class InMemoryPartnerRepository implements PartnerRepository {
         return Optional.ofNullable(this.partnersByEmail.get(email.value()));
     }
 
+    @Override
+    public boolean partnerExists(Cnpj cnpj, Email email) {
+        return this.partnersByCNPJ.containsKey(cnpj.value()) || (email != null && this.partnersByEmail.containsKey(email.value()));
+    }
+
     @Override
     public Partner create(Partner partner) {
+        if (partnerExists(partner.getCnpj(), partner.getEmail())) {
+            throw new ValidationException("Partner already exists");
+        }
         this.partners.put(partner.getPartnerId().value(), partner);
         this.partnersByCNPJ.put(partner.getCnpj().value(), partner);
         this.partnersByEmail.put(partner.getEmail().value(), partner);
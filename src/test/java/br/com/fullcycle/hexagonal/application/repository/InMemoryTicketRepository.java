@@ -1,16 +1,29 @@
 package br.com.fullcycle.hexagonal.application.repository;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketCursor;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class InMemoryTicketRepository implements TicketRepository {
 
+    private static final Comparator<TicketCursor> KEYSET_ORDER = Comparator.comparing(TicketCursor::reservedAt)
+            .thenComparing(it -> it.ticketId().toUUID());
+
     private final Map<String, Ticket> tickets;
 
     public InMemoryTicketRepository() {
@@ -34,9 +47,93 @@ public class InMemoryTicketRepository implements TicketRepository {
         return ticket;
     }
 
+    @Override
+    public List<Ticket> ticketsOfEvent(EventId eventId, TicketCursor after, int limit) {
+        return pageOf(it -> it.getEventId().equals(eventId), after, limit);
+    }
+
+    @Override
+    public List<Ticket> ticketsOfCustomer(CustomerId customerId, TicketCursor after, int limit) {
+        return pageOf(it -> it.getCustomerId().equals(customerId), after, limit);
+    }
+
+    @Override
+    public void forEachTicketOfEvent(EventId eventId, Consumer<Ticket> action) {
+        this.tickets.values().stream()
+                .filter(it -> it.getEventId().equals(eventId))
+                .sorted(Comparator.comparing(TicketCursor::of, KEYSET_ORDER))
+                .forEach(action);
+    }
+
+    private List<Ticket> pageOf(Predicate<Ticket> filter, TicketCursor after, int limit) {
+        return this.tickets.values().stream()
+                .filter(filter)
+                .filter(it -> after == null || KEYSET_ORDER.compare(TicketCursor.of(it), after) > 0)
+                .sorted(Comparator.comparing(TicketCursor::of, KEYSET_ORDER))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Ticket> pendingReservedBefore(Instant cutoff, int limit) {
+        return this.tickets.values().stream()
+                .filter(it -> it.getStatus() == TicketStatus.PENDING && it.getReservedAt().isBefore(cutoff))
+                .sorted(Comparator.comparing(Ticket::getReservedAt))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Optional<Instant> oldestPendingReservedAt() {
+        return this.tickets.values().stream()
+                .filter(it -> it.getStatus() == TicketStatus.PENDING)
+                .map(Ticket::getReservedAt)
+                .min(Comparator.naturalOrder());
+    }
+
+    @Override
+    public List<TicketId> deletePending(Collection<TicketId> ticketIds) {
+        final var deleted = ticketIds.stream()
+                .filter(it -> {
+                    final var ticket = this.tickets.get(it.value());
+                    return ticket != null && ticket.getStatus() == TicketStatus.PENDING;
+                })
+                .toList();
+        deleted.forEach(it -> this.tickets.remove(it.value()));
+        return deleted;
+    }
+
+    @Override
+    public boolean markProcessing(TicketId ticketId) {
+        final var ticket = this.tickets.get(Objects.requireNonNull(ticketId).value());
+        if (ticket == null || ticket.getStatus() != TicketStatus.PENDING) {
+            return false;
+        }
+        this.tickets.put(ticket.getTicketId().value(), withStatus(ticket, TicketStatus.PROCESSING, null));
+        return true;
+    }
+
+    @Override
+    public int markPaid(Collection<TicketId> ticketIds, Instant paidAt) {
+        Objects.requireNonNull(paidAt);
+        var updated = 0;
+        for (final var ticketId : ticketIds) {
+            final var ticket = this.tickets.get(ticketId.value());
+            if (ticket != null && ticket.getStatus().isPayable()) {
+                this.tickets.put(ticketId.value(), withStatus(ticket, TicketStatus.PAID, paidAt));
+                updated++;
+            }
+        }
+        return updated;
+    }
+
     @Override
     public void deleteAll() {
         this.tickets.clear();
     }
 
+    private static Ticket withStatus(final Ticket ticket, final TicketStatus status, final Instant paidAt) {
+        return new Ticket(ticket.getTicketId(), ticket.getCustomerId(), ticket.getEventId(), status, paidAt, ticket.getReservedAt());
+    }
+
 }
\ No newline at end of file
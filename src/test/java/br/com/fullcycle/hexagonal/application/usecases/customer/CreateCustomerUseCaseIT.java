@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.usecases.customer;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.IntegrationTest;
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
@@ -83,4 +84,25 @@ public class CreateCustomerUseCaseIT extends IntegrationTest {
     private Customer createCustomer(final String cpf, final String email, final String name) {
         return customerRepository.create(Customer.newCustomer(name, cpf, email));
     }
+
+    @Test
+    @DisplayName("Deve traduzir a violação de chave única para ValidationException no modo CONSTRAINT")
+    public void testCreateWithConstraintModeShouldFail() throws Exception {
+        //given
+        final var expectedCPF = "123.456.789-01";
+        final var expectedEmail = "john.doe@gmail.com";
+        final var expectedName = "John Doe";
+        final var expectedError = "Customer already exists";
+
+        createCustomer("123.456.789-02", expectedEmail, expectedName);
+
+        final var createInput = new CreateCustomerUseCase.Input(expectedCPF, expectedEmail, expectedName);
+
+        //when
+        final var constraintUseCase = new CreateCustomerUseCase(customerRepository, CreateCustomerUseCase.UniquenessMode.CONSTRAINT, IdGenerator.random());
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> constraintUseCase.execute(createInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
 }
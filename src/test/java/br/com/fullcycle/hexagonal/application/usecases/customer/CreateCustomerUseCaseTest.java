@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.usecases.customer;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
@@ -56,6 +57,28 @@ public class CreateCustomerUseCaseTest {
         Assertions.assertEquals(expectedError, actualException.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve acusar CPF duplicado mesmo com e-mail inválido")
+    public void testCreateWithDuplicatedCPFAndInvalidEmailShouldFail() throws Exception {
+        //given
+        final var expectedCPF = "123.456.789-01";
+        final var expectedError = "Customer already exists";
+
+        final var aCustomer = Customer.newCustomer("John Doe", expectedCPF, "john.doe@gmail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(aCustomer);
+
+        final var createInput = new CreateCustomerUseCase.Input(expectedCPF, "john.doe", "John Doe");
+
+        //when
+        final var useCase = new CreateCustomerUseCase(customerRepository);
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(createInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
     @Test
     @DisplayName("Não deve cadastrar um cliente com e-mail duplicado")
     public void testCreateWithDuplicatedEmailShouldFail() throws Exception {
@@ -79,4 +102,26 @@ public class CreateCustomerUseCaseTest {
         //then
         Assertions.assertEquals(expectedError, actualException.getMessage());
     }
+
+    @Test
+    @DisplayName("Deve rejeitar cliente duplicado pela chave única no modo CONSTRAINT")
+    public void testCreateWithConstraintModeShouldFail() throws Exception {
+        //given
+        final var expectedCPF = "123.456.789-01";
+        final var expectedEmail = "john.doe@gmail.com";
+        final var expectedName = "John Doe";
+        final var expectedError = "Customer already exists";
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(Customer.newCustomer(expectedName, "123.456.789-02", expectedEmail));
+
+        final var createInput = new CreateCustomerUseCase.Input(expectedCPF, expectedEmail, expectedName);
+
+        //when
+        final var useCase = new CreateCustomerUseCase(customerRepository, CreateCustomerUseCase.UniquenessMode.CONSTRAINT, IdGenerator.random());
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(createInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
 }
@@ -0,0 +1,97 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+
+public class ImportCustomersUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private ImportCustomersUseCase useCase;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve importar clientes em lote ignorando os já cadastrados")
+    public void testImport() {
+        //given
+        final var total = 1_200;
+        final var expectedError = "Customer already exists";
+
+        customerRepository.create(Customer.newCustomer("John Doe", "000.000.000-07", "john.doe7@gmail.com"));
+
+        final var items = new ArrayList<ImportCustomersUseCase.Item>();
+        for (int i = 0; i < total; i++) {
+            final var digits = "%011d".formatted(i);
+            final var cpf = "%s.%s.%s-%s".formatted(digits.substring(0, 3), digits.substring(3, 6), digits.substring(6, 9), digits.substring(9));
+            items.add(new ImportCustomersUseCase.Item(cpf, "john.doe%d@gmail.com".formatted(i), "John Doe"));
+        }
+
+        //when
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(items));
+
+        //then
+        Assertions.assertEquals(total - 1, output.imported());
+        Assertions.assertEquals(1, output.rejected().size());
+        Assertions.assertEquals(7, output.rejected().get(0).index());
+        Assertions.assertEquals(expectedError, output.rejected().get(0).error());
+        Assertions.assertTrue(customerRepository.customerOfCpf(new Cpf("000.000.011-99")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o cliente cadastrado concorrentemente sem perder o restante do bloco")
+    public void testImportWithConcurrentDuplicate() {
+        //given
+        final var expectedError = "Customer already exists";
+        final var total = 1_200;
+
+        // A consulta não enxerga o cliente que outra requisição grava antes do INSERT em lote
+        final var racingRepository = (CustomerRepository) Proxy.newProxyInstance(
+                CustomerRepository.class.getClassLoader(),
+                new Class<?>[]{CustomerRepository.class},
+                (proxy, method, args) -> {
+                    final Object result;
+                    try {
+                        result = method.invoke(customerRepository, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                    if (method.getName().equals("emailsInUse") && customerRepository.customerOfCpf(new Cpf("000.000.006-00")).isEmpty()) {
+                        customerRepository.create(Customer.newCustomer("John Doe", "000.000.006-00", "other@gmail.com"));
+                    }
+                    return result;
+                }
+        );
+
+        final var items = new ArrayList<ImportCustomersUseCase.Item>();
+        for (int i = 0; i < total; i++) {
+            final var digits = "%011d".formatted(i);
+            final var cpf = "%s.%s.%s-%s".formatted(digits.substring(0, 3), digits.substring(3, 6), digits.substring(6, 9), digits.substring(9));
+            items.add(new ImportCustomersUseCase.Item(cpf, "john.doe%d@gmail.com".formatted(i), "John Doe"));
+        }
+
+        //when
+        final var output = new ImportCustomersUseCase(racingRepository).execute(new ImportCustomersUseCase.Input(items));
+
+        //then
+        Assertions.assertEquals(total - 1, output.imported());
+        Assertions.assertEquals(1, output.rejected().size());
+        Assertions.assertEquals(600, output.rejected().get(0).index());
+        Assertions.assertEquals(expectedError, output.rejected().get(0).error());
+        Assertions.assertEquals("other@gmail.com", customerRepository.customerOfCpf(new Cpf("000.000.006-00")).get().getEmail().value());
+        Assertions.assertTrue(customerRepository.customerOfCpf(new Cpf("000.000.011-99")).isPresent());
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public class ImportCustomersUseCaseTest {
+
+    @Test
+    @DisplayName("Deve importar clientes em lote")
+    public void testImport() {
+        //given
+        final var expectedImported = 2_500;
+
+        final var items = new ArrayList<ImportCustomersUseCase.Item>();
+        for (int i = 0; i < expectedImported; i++) {
+            items.add(new ImportCustomersUseCase.Item(cpfOf(i), "john.doe%d@gmail.com".formatted(i), "John Doe"));
+        }
+
+        final var customerRepository = new InMemoryCustomerRepository();
+
+        //when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 1_000, IdGenerator.random());
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(items));
+
+        //then
+        Assertions.assertEquals(expectedImported, output.imported());
+        Assertions.assertTrue(output.rejected().isEmpty());
+        Assertions.assertTrue(customerRepository.customerOfCpf(new Cpf(cpfOf(1_999))).isPresent());
+        Assertions.assertTrue(customerRepository.customerOfEmail(new Email("john.doe2499@gmail.com")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar clientes inválidos ou duplicados e importar o restante")
+    public void testImportWithRejections() {
+        //given
+        final var expectedError = "Customer already exists";
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+
+        final var items = List.of(
+                new ImportCustomersUseCase.Item("123.456.789-02", "jane.doe@gmail.com", "Jane Doe"),
+                new ImportCustomersUseCase.Item("123.456.789-01", "other@gmail.com", "Other"),
+                new ImportCustomersUseCase.Item("123.456.789-03", "john.doe@gmail.com", "Other"),
+                new ImportCustomersUseCase.Item("123.456.789-02", "jane.smith@gmail.com", "Jane Smith"),
+                new ImportCustomersUseCase.Item("12345678904", "mary@gmail.com", "Mary"),
+                new ImportCustomersUseCase.Item("123.456.789-05", "mary@gmail.com", "Mary")
+        );
+
+        //when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 2, IdGenerator.random());
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(items));
+
+        //then
+        Assertions.assertEquals(2, output.imported());
+        Assertions.assertEquals(4, output.rejected().size());
+
+        Assertions.assertEquals(1, output.rejected().get(0).index());
+        Assertions.assertEquals(expectedError, output.rejected().get(0).error());
+        Assertions.assertEquals(2, output.rejected().get(1).index());
+        Assertions.assertEquals(expectedError, output.rejected().get(1).error());
+        Assertions.assertEquals(3, output.rejected().get(2).index());
+        Assertions.assertEquals(expectedError, output.rejected().get(2).error());
+        Assertions.assertEquals(4, output.rejected().get(3).index());
+        Assertions.assertEquals("Invalid value for Cpf", output.rejected().get(3).error());
+        Assertions.assertEquals("12345678904", output.rejected().get(3).cpf());
+
+        Assertions.assertEquals("Jane Doe", customerRepository.customerOfCpf(new Cpf("123.456.789-02")).get().getName().value());
+        Assertions.assertTrue(customerRepository.customerOfEmail(new Email("mary@gmail.com")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar só o cliente cadastrado por outra requisição entre a consulta e a inserção do bloco")
+    public void testImportWithConcurrentDuplicate() {
+        //given
+        final var expectedError = "Customer already exists";
+
+        // Outra requisição cadastra o mesmo CPF logo depois da consulta do bloco
+        final var customerRepository = new InMemoryCustomerRepository() {
+            @Override
+            public Set<Cpf> cpfsInUse(final Collection<Cpf> cpfs) {
+                final var inUse = super.cpfsInUse(cpfs);
+                if (customerOfCpf(new Cpf(cpfOf(1))).isEmpty()) {
+                    create(Customer.newCustomer("John Doe", cpfOf(1), "john.doe@gmail.com"));
+                }
+                return inUse;
+            }
+        };
+
+        final var items = new ArrayList<ImportCustomersUseCase.Item>();
+        for (int i = 0; i < 4; i++) {
+            items.add(new ImportCustomersUseCase.Item(cpfOf(i), "john.doe%d@gmail.com".formatted(i), "John Doe"));
+        }
+
+        //when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 4, IdGenerator.random());
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(items));
+
+        //then
+        Assertions.assertEquals(3, output.imported());
+        Assertions.assertEquals(1, output.rejected().size());
+        Assertions.assertEquals(1, output.rejected().get(0).index());
+        Assertions.assertEquals(expectedError, output.rejected().get(0).error());
+        Assertions.assertTrue(customerRepository.customerOfEmail(new Email("john.doe3@gmail.com")).isPresent());
+        Assertions.assertTrue(customerRepository.customerOfEmail(new Email("john.doe1@gmail.com")).isEmpty());
+    }
+
+    private static String cpfOf(final int i) {
+        final var digits = "%011d".formatted(i);
+        return "%s.%s.%s-%s".formatted(digits.substring(0, 3), digits.substring(3, 6), digits.substring(6, 9), digits.substring(9));
+    }
+}
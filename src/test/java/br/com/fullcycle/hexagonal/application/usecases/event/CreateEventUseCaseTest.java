@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.usecases.event;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
@@ -30,7 +31,7 @@ class CreateEventUseCaseTest {
 
         partnerRepository.create(aPartner);
         //when
-        final var useCase = new CreateEventUseCase(partnerRepository, eventRepository);
+        final var useCase = new CreateEventUseCase(partnerRepository, eventRepository, IdGenerator.random());
         final var output = useCase.execute(createInput);
 
         //then
@@ -57,7 +58,7 @@ class CreateEventUseCaseTest {
         final var eventRepository = new InMemoryEventRepository();
 
         //when
-        final var useCase = new CreateEventUseCase(partnerRepository, eventRepository);
+        final var useCase = new CreateEventUseCase(partnerRepository, eventRepository, IdGenerator.random());
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(createInput));
 
         //then
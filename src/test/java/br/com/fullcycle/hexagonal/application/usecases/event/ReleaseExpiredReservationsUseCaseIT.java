@@ -0,0 +1,94 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+public class ReleaseExpiredReservationsUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private ReleaseExpiredReservationsUseCase useCase;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve liberar as reservas PENDING vencidas e devolver os lugares ao evento")
+    public void testReleaseExpired() {
+        //given
+        final var now = Instant.now();
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+
+        final var expired = reserve(anEvent, TicketStatus.PENDING, now.minus(Duration.ofHours(1)));
+        final var processing = reserve(anEvent, TicketStatus.PROCESSING, now.minus(Duration.ofHours(1)));
+        final var fresh = reserve(anEvent, TicketStatus.PENDING, now.minus(Duration.ofMinutes(1)));
+
+        //when
+        final var output = useCase.execute(new ReleaseExpiredReservationsUseCase.Input(now));
+
+        //then
+        Assertions.assertEquals(1, output.released());
+        Assertions.assertNotNull(output.nextExpiry());
+        Assertions.assertTrue(ticketRepository.ticketOfId(expired).isEmpty());
+        Assertions.assertTrue(ticketRepository.ticketOfId(processing).isPresent());
+        Assertions.assertTrue(ticketRepository.ticketOfId(fresh).isPresent());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).orElseThrow();
+        Assertions.assertEquals(2, actualEvent.getSoldSpots());
+        Assertions.assertEquals(2, actualEvent.allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Não deve repetir o ordering de um ticket ativo depois de uma liberação")
+    public void testReserveAfterReleaseKeepsOrderingUnique() {
+        //given
+        final var now = Instant.now();
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+
+        reserve(anEvent, TicketStatus.PENDING, now.minus(Duration.ofHours(1)));
+        reserve(anEvent, TicketStatus.PENDING, now.minus(Duration.ofMinutes(2)));
+        reserve(anEvent, TicketStatus.PENDING, now.minus(Duration.ofMinutes(1)));
+        useCase.execute(new ReleaseExpiredReservationsUseCase.Input(now));
+
+        //when
+        reserve(anEvent, TicketStatus.PENDING, now);
+
+        //then
+        final var actualOrderings = eventRepository.eventOfId(anEvent.getEventId()).orElseThrow().allTickets().stream()
+                .map(EventTicket::getOrdering)
+                .sorted()
+                .toList();
+        Assertions.assertEquals(List.of(2, 3, 4), actualOrderings);
+    }
+
+    private TicketId reserve(final Event event, final TicketStatus status, final Instant reservedAt) {
+        final var ticket = new Ticket(TicketId.unique(), CustomerId.unique(), event.getEventId(), status, null, reservedAt);
+        eventRepository.reserveSpot(event.getEventId(), ticket.getTicketId(), ticket.getCustomerId()).orElseThrow();
+        ticketRepository.create(ticket);
+        return ticket.getTicketId();
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventAvailability;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+class ReleaseExpiredReservationsUseCaseTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    @Test
+    @DisplayName("Deve liberar as reservas PENDING vencidas em lotes, das mais antigas para as mais novas")
+    public void testReleaseInBatches() {
+        //given
+        final var now = Instant.parse("2021-01-01T12:00:00Z");
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+        eventRepository.create(anEvent);
+
+        final var oldest = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PENDING, now.minus(Duration.ofHours(2)));
+        final var older = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PENDING, now.minus(Duration.ofHours(1)));
+        final var expired = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PENDING, now.minus(Duration.ofMinutes(20)));
+        final var paid = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PAID, now.minus(Duration.ofHours(3)));
+        final var fresh = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PENDING, now.minus(Duration.ofMinutes(5)));
+
+        final var useCase = new ReleaseExpiredReservationsUseCase(ticketRepository, eventRepository, EventAvailability.disabled(), UnitOfWork.direct(), TTL, 2);
+
+        //when
+        final var first = useCase.execute(new ReleaseExpiredReservationsUseCase.Input(now));
+        final var second = useCase.execute(new ReleaseExpiredReservationsUseCase.Input(now));
+
+        //then
+        Assertions.assertEquals(2, first.released());
+        Assertions.assertEquals(now, first.nextExpiry());
+        Assertions.assertTrue(ticketRepository.ticketOfId(oldest).isEmpty());
+        Assertions.assertTrue(ticketRepository.ticketOfId(older).isEmpty());
+
+        Assertions.assertEquals(1, second.released());
+        Assertions.assertTrue(ticketRepository.ticketOfId(expired).isEmpty());
+        Assertions.assertEquals(now.minus(Duration.ofMinutes(5)).plus(TTL), second.nextExpiry());
+
+        Assertions.assertTrue(ticketRepository.ticketOfId(paid).isPresent());
+        Assertions.assertTrue(ticketRepository.ticketOfId(fresh).isPresent());
+        Assertions.assertEquals(2, eventRepository.soldSpotsOf(eventRepository.eventOfId(anEvent.getEventId()).get()));
+    }
+
+    @Test
+    @DisplayName("Deve rodar de novo quando o lote lido vier cheio, mesmo que parte dele já tenha sido paga")
+    public void testRerunWhenBatchReadIsFull() {
+        //given
+        final var now = Instant.parse("2021-01-01T12:00:00Z");
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var eventRepository = new InMemoryEventRepository();
+        // Paga o primeiro ticket do lote entre a leitura e a liberação
+        final var ticketRepository = new InMemoryTicketRepository() {
+            @Override
+            public List<Ticket> pendingReservedBefore(Instant cutoff, int limit) {
+                final var expired = super.pendingReservedBefore(cutoff, limit);
+                markPaid(List.of(expired.get(0).getTicketId()), now);
+                return expired;
+            }
+        };
+        eventRepository.create(anEvent);
+
+        final var paidMeanwhile = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PENDING, now.minus(Duration.ofHours(2)));
+        final var expired = reserve(anEvent, eventRepository, ticketRepository, TicketStatus.PENDING, now.minus(Duration.ofHours(1)));
+
+        final var useCase = new ReleaseExpiredReservationsUseCase(ticketRepository, eventRepository, EventAvailability.disabled(), UnitOfWork.direct(), TTL, 2);
+
+        //when
+        final var output = useCase.execute(new ReleaseExpiredReservationsUseCase.Input(now));
+
+        //then
+        Assertions.assertEquals(1, output.released());
+        Assertions.assertEquals(now, output.nextExpiry());
+        Assertions.assertTrue(ticketRepository.ticketOfId(paidMeanwhile).isPresent());
+        Assertions.assertTrue(ticketRepository.ticketOfId(expired).isEmpty());
+        Assertions.assertEquals(1, eventRepository.soldSpotsOf(eventRepository.eventOfId(anEvent.getEventId()).get()));
+    }
+
+    @Test
+    @DisplayName("Não deve informar próxima expiração quando não houver reservas PENDING")
+    public void testNothingPending() {
+        //given
+        final var useCase = new ReleaseExpiredReservationsUseCase(
+                new InMemoryTicketRepository(), new InMemoryEventRepository(), EventAvailability.disabled(), UnitOfWork.direct(), TTL, 10);
+
+        //when
+        final var output = useCase.execute(new ReleaseExpiredReservationsUseCase.Input(Instant.now()));
+
+        //then
+        Assertions.assertEquals(0, output.released());
+        Assertions.assertNull(output.nextExpiry());
+    }
+
+    private static TicketId reserve(
+            final Event event,
+            final InMemoryEventRepository eventRepository,
+            final InMemoryTicketRepository ticketRepository,
+            final TicketStatus status,
+            final Instant reservedAt
+    ) {
+        final var ticket = new Ticket(TicketId.unique(), CustomerId.unique(), event.getEventId(), status, null, reservedAt);
+        eventRepository.reserveSpot(event.getEventId(), ticket.getTicketId(), ticket.getCustomerId());
+        ticketRepository.create(ticket);
+        return ticket.getTicketId();
+    }
+}
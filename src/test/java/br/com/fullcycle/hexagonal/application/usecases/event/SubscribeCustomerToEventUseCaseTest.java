@@ -1,19 +1,36 @@
 package br.com.fullcycle.hexagonal.application.usecases.event;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventAvailability;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventLocks;
+import br.com.fullcycle.hexagonal.application.exceptions.ConflictException;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 class SubscribeCustomerToEventUseCaseTest {
 
     @Test
@@ -38,7 +55,18 @@ class SubscribeCustomerToEventUseCaseTest {
         eventRepository.create(anEvent);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
         final var output = useCase.execute(subscribeInput);
 
         //then
@@ -51,6 +79,52 @@ class SubscribeCustomerToEventUseCaseTest {
         Assertions.assertEquals(expectedTicketsSize, actualEvent.get().allTickets().size());
     }
 
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento de forma assíncrona no executor informado")
+    public void testReserveTicketAsync() throws Exception {
+        //given
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var executions = new AtomicInteger();
+        final var executor = Executors.newSingleThreadExecutor();
+
+        //when
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        final var output = useCase.executeAsync(
+                new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()),
+                command -> {
+                    executions.incrementAndGet();
+                    executor.execute(command);
+                }
+        ).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        Assertions.assertEquals(1, executions.get());
+        Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+        Assertions.assertEquals(1, eventRepository.eventOfId(anEvent.getEventId()).get().allTickets().size());
+    }
+
     @Test
     @DisplayName("Não deve comprar um ticket de um evento que não existe")
     public void testReserveTicketWithoutEvent() throws Exception {
@@ -71,7 +145,18 @@ class SubscribeCustomerToEventUseCaseTest {
         customerRepository.create(aCustomer);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
 
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
@@ -99,7 +184,18 @@ class SubscribeCustomerToEventUseCaseTest {
 
         eventRepository.create(anEvent);
 
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
@@ -131,7 +227,18 @@ class SubscribeCustomerToEventUseCaseTest {
         ticketRepository.create(ticket);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
@@ -166,10 +273,588 @@ class SubscribeCustomerToEventUseCaseTest {
         ticketRepository.create(ticket);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento usando o contador de lugares")
+    public void testReserveTicketOnCounter() throws Exception {
+        //given
+        final var expectedSoldSpots = 1;
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var customerID = aCustomer.getCustomerId().value();
+        final var eventID = anEvent.getEventId().value();
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(eventID, customerID);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        //when
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.COUNTER,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        final var output = useCase.execute(subscribeInput);
+
+        //then
+        Assertions.assertEquals(eventID, output.eventId());
+        Assertions.assertNotNull(output.ticketId());
+        Assertions.assertNotNull(output.reservationDate());
+        Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+        Assertions.assertTrue(ticketRepository.ticketOfId(TicketId.with(output.ticketId())).isPresent());
+        Assertions.assertEquals(expectedSoldSpots, eventRepository.soldSpotsOf(anEvent));
+    }
+
+    @Test
+    @DisplayName("Não deve comprar um ticket de um evento que não existe usando o contador de lugares")
+    public void testReserveTicketOnCounterWithoutEvent() throws Exception {
+        //given
+        final var expectedError = "Event not found";
+
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(EventId.unique().value(), aCustomer.getCustomerId().value());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+
+        //when
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.COUNTER,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Um mesmo cliente não pode comprar mais de um ticket por evento usando o contador de lugares")
+    public void testReserveTicketOnCounterMoreThanOnce() throws Exception {
+        //given
+        final var expectedError = "Ticket already registered";
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.COUNTER,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        useCase.execute(subscribeInput);
+
+        //when
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
         Assertions.assertEquals(expectedError, actualException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Não deve comprar de um evento que não há mais lugares usando o contador de lugares")
+    public void testReserveTicketOnCounterWithoutSpots() throws Exception {
+        //given
+        final var expectedError = "Event sold out";
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var aCustomer2 = Customer.newCustomer("Jack Doe", "123.456.789-02", "jack.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        customerRepository.create(aCustomer2);
+        eventRepository.create(anEvent);
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.COUNTER,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer2.getCustomerId().value()));
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value())));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento gravando só o ticket")
+    public void testReserveTicketInSingleWrite() throws Exception {
+        //given
+        final var expectedSoldSpots = 1;
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        //when
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.SINGLE_WRITE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        final var output = useCase.execute(subscribeInput);
+
+        //then
+        Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+        Assertions.assertEquals(expectedSoldSpots, eventRepository.soldSpotsOf(anEvent));
+        Assertions.assertTrue(ticketRepository.ticketOfId(TicketId.with(output.ticketId())).isEmpty());
+        Assertions.assertTrue(eventRepository.hasTicketOf(anEvent.getEventId(), aCustomer.getCustomerId()));
+    }
+
+    @Test
+    @DisplayName("Não deve comprar de um evento que não há mais lugares gravando só o ticket")
+    public void testReserveTicketInSingleWriteWithoutSpots() throws Exception {
+        //given
+        final var expectedError = "Event sold out";
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var aCustomer2 = Customer.newCustomer("Jack Doe", "123.456.789-02", "jack.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        customerRepository.create(aCustomer2);
+        eventRepository.create(anEvent);
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.SINGLE_WRITE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer2.getCustomerId().value()));
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value())));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar inscrições em evento esgotado sem consultar o repositório de eventos")
+    public void testReserveTicketOnSoldOutEventShortCircuits() throws Exception {
+        //given
+        final var expectedError = "Event sold out";
+        final var expectedEventLoads = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var aCustomer2 = Customer.newCustomer("Jack Doe", "123.456.789-02", "jack.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+
+        final var eventLoads = new AtomicInteger();
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository() {
+            @Override
+            public Optional<Event> eventOfId(EventId anId) {
+                eventLoads.incrementAndGet();
+                return super.eventOfId(anId);
+            }
+        };
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        customerRepository.create(aCustomer2);
+        eventRepository.create(anEvent);
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                new EventAvailability(Duration.ofMinutes(1)),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer2.getCustomerId().value()));
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value())));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertEquals(expectedEventLoads, eventLoads.get());
+    }
+
+    @Test
+    @DisplayName("Deve acusar inscrição duplicada mesmo com o evento marcado como esgotado")
+    public void testReserveTicketTwiceOnSoldOutEvent() throws Exception {
+        //given
+        final var expectedError = "Ticket already registered";
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                new EventAvailability(Duration.ofMinutes(1)),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+        useCase.execute(subscribeInput);
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a reserva quando o evento for alterado concorrentemente")
+    public void testReserveTicketRetriesOnConflict() throws Exception {
+        //given
+        final var expectedAttempts = 3;
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var attempts = new AtomicInteger();
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        // Simula a transação: as duas primeiras tentativas perdem a disputa e são desfeitas
+        final var unitOfWork = new UnitOfWork() {
+            @Override
+            public <T> T execute(Supplier<T> work) {
+                if (attempts.incrementAndGet() < expectedAttempts) {
+                    throw new ConflictException("Concurrent modification");
+                }
+                return work.get();
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                unitOfWork,
+                new SubscribeCustomerToEventUseCase.Retry(expectedAttempts, Duration.ofMillis(1)),
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+
+        //when
+        final var output = useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+
+        //then
+        Assertions.assertEquals(expectedAttempts, attempts.get());
+        Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+        Assertions.assertEquals(1, eventRepository.eventOfId(anEvent.getEventId()).get().allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Deve desistir após o número máximo de tentativas")
+    public void testReserveTicketGivesUpAfterMaxAttempts() throws Exception {
+        //given
+        final var expectedAttempts = 2;
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var attempts = new AtomicInteger();
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var unitOfWork = new UnitOfWork() {
+            @Override
+            public <T> T execute(Supplier<T> work) {
+                attempts.incrementAndGet();
+                throw new ConflictException("Concurrent modification");
+            }
+        };
+
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                unitOfWork,
+                new SubscribeCustomerToEventUseCase.Retry(expectedAttempts, Duration.ZERO),
+                EventLocks.none(),
+                SubscribeCustomerToEventUseCase.Batching.DISABLED,
+                IdGenerator.random()
+        );
+
+        //when
+        Assertions.assertThrows(ConflictException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value())));
+
+        //then
+        Assertions.assertEquals(expectedAttempts, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as inscrições concorrentes de um mesmo evento num único commit")
+    public void testReserveTicketsInBatch() throws Exception {
+        //given
+        final var expectedCommits = 1;
+        final var expectedError = "Event sold out";
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 2, aPartner);
+        final var customers = List.of(
+                Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"),
+                Customer.newCustomer("Jane Doe", "123.456.789-02", "jane.doe@gmail.com"),
+                Customer.newCustomer("Mary Doe", "123.456.789-03", "mary.doe@gmail.com")
+        );
+
+        final var commits = new AtomicInteger();
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customers.forEach(customerRepository::create);
+        eventRepository.create(anEvent);
+
+        final var unitOfWork = new UnitOfWork() {
+            @Override
+            public <T> T execute(Supplier<T> work) {
+                commits.incrementAndGet();
+                return work.get();
+            }
+        };
+
+        // Janela longa: o lote é liberado ao atingir o tamanho máximo
+        final var scheduler = Executors.newSingleThreadScheduledExecutor();
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                unitOfWork,
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                new SubscribeCustomerToEventUseCase.Batching(Duration.ofSeconds(30), customers.size(), scheduler),
+                IdGenerator.random()
+        );
+
+        //when
+        final var executor = Executors.newFixedThreadPool(customers.size());
+        final var results = new ArrayList<Future<SubscribeCustomerToEventUseCase.Output>>();
+        for (final var customer : customers) {
+            results.add(executor.submit(() -> useCase.execute(
+                    new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), customer.getCustomerId().value()))));
+        }
+
+        var reserved = 0;
+        final var errors = new ArrayList<String>();
+        for (final var result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                reserved++;
+            } catch (ExecutionException ex) {
+                errors.add(ex.getCause().getMessage());
+            }
+        }
+        executor.shutdown();
+        scheduler.shutdownNow();
+
+        //then
+        Assertions.assertEquals(expectedCommits, commits.get());
+        Assertions.assertEquals(2, reserved);
+        Assertions.assertEquals(List.of(expectedError), errors);
+        Assertions.assertEquals(2, eventRepository.eventOfId(anEvent.getEventId()).get().allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Deve liberar o lote ao fim da janela mesmo sem atingir o tamanho máximo")
+    public void testReserveTicketInBatchAfterWindow() throws Exception {
+        //given
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var scheduler = Executors.newSingleThreadScheduledExecutor();
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.AGGREGATE,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                new SubscribeCustomerToEventUseCase.Batching(Duration.ofMillis(2), 64, scheduler),
+                IdGenerator.random()
+        );
+
+        //when
+        final var output = useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+        scheduler.shutdownNow();
+
+        //then
+        Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+        Assertions.assertTrue(ticketRepository.ticketOfId(TicketId.with(output.ticketId())).isPresent());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar agrupamento de reservas no modo COUNTER")
+    public void testBatchingIsRejectedInCounterMode() {
+        //given
+        final var scheduler = Executors.newSingleThreadScheduledExecutor();
+        final var expectedError = "Batching is not supported in COUNTER mode";
+
+        //when
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> new SubscribeCustomerToEventUseCase(
+                new InMemoryCustomerRepository(),
+                new InMemoryEventRepository(),
+                new InMemoryTicketRepository(),
+                SubscribeCustomerToEventUseCase.ReservationMode.COUNTER,
+                EventAvailability.disabled(),
+                UnitOfWork.direct(),
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                new SubscribeCustomerToEventUseCase.Batching(Duration.ofMillis(2), 64, scheduler),
+                IdGenerator.random()
+        ));
+        scheduler.shutdownNow();
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.fullcycle.hexagonal.application.usecases.partner;
 
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryPartnerRepository;
@@ -79,4 +80,26 @@ public class CreatePartnerUseCaseTest {
         //then
         Assertions.assertEquals(expectedError, actualException.getMessage());
     }
+
+    @Test
+    @DisplayName("Deve rejeitar parceiro duplicado pela chave única no modo CONSTRAINT")
+    public void testCreateWithConstraintModeShouldFail() throws Exception {
+        //given
+        final var expectedCNPJ = "41.536.538/0001-00";
+        final var expectedEmail = "john.doe@gmail.com";
+        final var expectedName = "John Doe";
+        final var expectedError = "Partner already exists";
+
+        final var partnerRepository = new InMemoryPartnerRepository();
+        partnerRepository.create(Partner.newPartner(expectedName, expectedCNPJ, "other@gmail.com"));
+
+        final var createInput = new CreatePartnerUseCase.Input(expectedCNPJ, expectedEmail, expectedName);
+
+        //when
+        final var useCase = new CreatePartnerUseCase(partnerRepository, CreatePartnerUseCase.UniquenessMode.CONSTRAINT, IdGenerator.random());
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(createInput));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
 }
@@ -0,0 +1,60 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConfirmTicketPaymentsUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private ConfirmTicketPaymentsUseCase useCase;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar milhares de pagamentos com UPDATEs em bloco")
+    public void testConfirmPayments() {
+        //given
+        final var total = 2_500;
+        final var expectedPaidAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        final var paid = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+        ticketRepository.markPaid(List.of(paid.getTicketId()), expectedPaidAt.minusSeconds(60));
+
+        final var ids = new ArrayList<String>();
+        ids.add(paid.getTicketId().value());
+        for (int i = 1; i < total; i++) {
+            ids.add(ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique())).getTicketId().value());
+        }
+
+        //when
+        final var output = useCase.execute(new ConfirmTicketPaymentsUseCase.Input(ids, expectedPaidAt));
+
+        //then
+        Assertions.assertEquals(total, output.requested());
+        Assertions.assertEquals(total - 1, output.confirmed());
+        Assertions.assertEquals(1, output.ignored());
+
+        final var aTicket = ticketRepository.ticketOfId(TicketId.with(ids.get(total - 1))).get();
+        Assertions.assertEquals(TicketStatus.PAID, aTicket.getStatus());
+        Assertions.assertEquals(expectedPaidAt, aTicket.getPaidAt());
+        Assertions.assertEquals(expectedPaidAt.minusSeconds(60), ticketRepository.ticketOfId(paid.getTicketId()).get().getPaidAt());
+    }
+}
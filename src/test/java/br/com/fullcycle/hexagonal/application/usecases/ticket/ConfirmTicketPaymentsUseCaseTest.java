@@ -0,0 +1,81 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConfirmTicketPaymentsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve confirmar o pagamento de tickets PENDING e PROCESSING em blocos")
+    public void testConfirmPayments() {
+        //given
+        final var expectedPaidAt = Instant.parse("2021-01-01T12:00:00Z");
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        final var ids = new ArrayList<String>();
+        for (int i = 0; i < 25; i++) {
+            final var ticket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+            if (i % 2 == 0) {
+                ticketRepository.markProcessing(ticket.getTicketId());
+            }
+            ids.add(ticket.getTicketId().value());
+        }
+
+        //when
+        final var useCase = new ConfirmTicketPaymentsUseCase(ticketRepository, UnitOfWork.direct(), 10);
+        final var output = useCase.execute(new ConfirmTicketPaymentsUseCase.Input(ids, expectedPaidAt));
+
+        //then
+        Assertions.assertEquals(25, output.requested());
+        Assertions.assertEquals(25, output.confirmed());
+        Assertions.assertEquals(0, output.ignored());
+
+        final var aTicket = ticketRepository.ticketOfId(TicketId.with(ids.get(24))).get();
+        Assertions.assertEquals(TicketStatus.PAID, aTicket.getStatus());
+        Assertions.assertEquals(expectedPaidAt, aTicket.getPaidAt());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar tickets já pagos, repetidos, desconhecidos ou inválidos")
+    public void testConfirmPaymentsIdempotently() {
+        //given
+        final var firstPaidAt = Instant.parse("2021-01-01T12:00:00Z");
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        final var paid = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+        ticketRepository.markPaid(List.of(paid.getTicketId()), firstPaidAt);
+
+        final var pending = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var ids = List.of(
+                paid.getTicketId().value(),
+                pending.getTicketId().value(),
+                pending.getTicketId().value(),
+                TicketId.unique().value(),
+                "not-an-id"
+        );
+
+        //when
+        final var useCase = new ConfirmTicketPaymentsUseCase(ticketRepository, UnitOfWork.direct());
+        final var output = useCase.execute(new ConfirmTicketPaymentsUseCase.Input(ids, Instant.now()));
+
+        //then
+        Assertions.assertEquals(5, output.requested());
+        Assertions.assertEquals(1, output.confirmed());
+        Assertions.assertEquals(4, output.ignored());
+        Assertions.assertEquals(firstPaidAt, ticketRepository.ticketOfId(paid.getTicketId()).get().getPaidAt());
+        Assertions.assertEquals(TicketStatus.PAID, ticketRepository.ticketOfId(pending.getTicketId()).get().getStatus());
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+public class ExportEventTicketsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve exportar todos os tickets de um evento, um a um")
+    public void testExport() {
+        //given
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+        eventRepository.create(anEvent);
+
+        for (int i = 0; i < 3; i++) {
+            ticketRepository.create(Ticket.newTicket(CustomerId.unique(), anEvent.getEventId()));
+        }
+        ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var exported = new ArrayList<ExportEventTicketsUseCase.Item>();
+
+        //when
+        final var useCase = new ExportEventTicketsUseCase(eventRepository, ticketRepository);
+        final var output = useCase.execute(new ExportEventTicketsUseCase.Input(anEvent.getEventId().value(), exported::add));
+
+        //then
+        Assertions.assertEquals(3, output.exported());
+        Assertions.assertEquals(3, exported.size());
+        Assertions.assertTrue(exported.stream().allMatch(it -> it.eventId().equals(anEvent.getEventId().value())));
+    }
+
+    @Test
+    @DisplayName("Não deve exportar os tickets de um evento inexistente")
+    public void testExportUnknownEvent() {
+        //given
+        final var expectedError = "Event not found";
+        final var useCase = new ExportEventTicketsUseCase(new InMemoryEventRepository(), new InMemoryTicketRepository());
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new ExportEventTicketsUseCase.Input(EventId.unique().value(), it -> Assertions.fail("Nenhum ticket deve ser exportado"))));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+}
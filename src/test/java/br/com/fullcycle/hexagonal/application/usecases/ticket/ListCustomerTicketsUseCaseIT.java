@@ -0,0 +1,72 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+public class ListCustomerTicketsUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private ListCustomerTicketsUseCase useCase;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve paginar os tickets de um cliente por chave, na ordem de reserva")
+    public void testListInPages() {
+        //given
+        final var total = 25;
+        final var aCustomerId = CustomerId.unique();
+        final var reservedAt = Instant.parse("2021-01-01T12:00:00Z");
+        final var expectedIds = new ArrayList<String>();
+        for (int i = 0; i < total; i++) {
+            final var ticket = new Ticket(TicketId.unique(), aCustomerId, EventId.unique(), TicketStatus.PENDING, null, reservedAt.plusSeconds(total - i));
+            ticketRepository.create(ticket);
+            expectedIds.add(0, ticket.getTicketId().value());
+        }
+        ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        //when
+        final var actualIds = new ArrayList<String>();
+        String after = null;
+        do {
+            final var page = useCase.execute(new ListCustomerTicketsUseCase.Input(aCustomerId.value(), after, 10));
+            page.tickets().forEach(it -> actualIds.add(it.id()));
+            after = page.nextCursor();
+        } while (after != null);
+
+        //then
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices (evento|cliente, reserved_at, id) usados pela paginação")
+    public void testKeysetIndexesExist() {
+        //when
+        final var indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'tickets'", String.class);
+
+        //then
+        Assertions.assertTrue(indexes.contains("idx_tickets_event_reserved_at"), indexes::toString);
+        Assertions.assertTrue(indexes.contains("idx_tickets_customer_reserved_at"), indexes::toString);
+    }
+}
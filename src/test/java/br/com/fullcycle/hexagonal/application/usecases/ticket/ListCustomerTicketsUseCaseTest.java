@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ListCustomerTicketsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve listar os tickets de um cliente e indicar que não há próxima página")
+    public void testList() {
+        //given
+        final var aCustomerId = CustomerId.unique();
+        final var ticketRepository = new InMemoryTicketRepository();
+        final var aTicket = ticketRepository.create(Ticket.newTicket(aCustomerId, EventId.unique()));
+        ticketRepository.create(Ticket.newTicket(aCustomerId, EventId.unique()));
+        ticketRepository.create(Ticket.newTicket(CustomerId.unique(), aTicket.getEventId()));
+
+        //when
+        final var useCase = new ListCustomerTicketsUseCase(ticketRepository);
+        final var output = useCase.execute(new ListCustomerTicketsUseCase.Input(aCustomerId.value(), null, null));
+
+        //then
+        Assertions.assertEquals(2, output.tickets().size());
+        Assertions.assertNull(output.nextCursor());
+        Assertions.assertTrue(output.tickets().stream().allMatch(it -> it.customerId().equals(aCustomerId.value())));
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.HashSet;
+
+public class ListEventTicketsUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private ListEventTicketsUseCase useCase;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve paginar os tickets de um evento por chave, inclusive com reservedAt repetido")
+    public void testListInPages() {
+        //given
+        final var total = 250;
+        final var anEventId = EventId.unique();
+        final var reservedAt = Instant.parse("2021-01-01T12:00:00Z");
+        for (int i = 0; i < total; i++) {
+            ticketRepository.create(new Ticket(TicketId.unique(), CustomerId.unique(), anEventId, TicketStatus.PENDING, null, reservedAt.plusSeconds(i / 10)));
+        }
+
+        //when
+        final var ids = new HashSet<String>();
+        var pages = 0;
+        String after = null;
+        do {
+            final var page = useCase.execute(new ListEventTicketsUseCase.Input(anEventId.value(), after, 100));
+            page.tickets().forEach(it -> Assertions.assertTrue(ids.add(it.id())));
+            after = page.nextCursor();
+            pages++;
+        } while (after != null);
+
+        //then
+        Assertions.assertEquals(3, pages);
+        Assertions.assertEquals(total, ids.size());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+public class ListEventTicketsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve percorrer os tickets de um evento página a página, sem repetir nem pular")
+    public void testListInPages() {
+        //given
+        final var anEventId = EventId.unique();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        // Tickets de dois em dois com o mesmo reservedAt: o desempate é pelo id
+        final var reservedAt = Instant.parse("2021-01-01T12:00:00Z");
+        for (int i = 0; i < 23; i++) {
+            ticketRepository.create(new Ticket(TicketId.unique(), CustomerId.unique(), anEventId, TicketStatus.PENDING, null, reservedAt.plusSeconds(i / 2)));
+        }
+        ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var useCase = new ListEventTicketsUseCase(ticketRepository);
+
+        //when
+        final var pages = new ArrayList<ListEventTicketsUseCase.Output>();
+        String after = null;
+        do {
+            final var page = useCase.execute(new ListEventTicketsUseCase.Input(anEventId.value(), after, 10));
+            pages.add(page);
+            after = page.nextCursor();
+        } while (after != null);
+
+        //then
+        Assertions.assertEquals(3, pages.size());
+        Assertions.assertEquals(10, pages.get(0).tickets().size());
+        Assertions.assertEquals(3, pages.get(2).tickets().size());
+
+        final var ids = new HashSet<String>();
+        Instant previous = null;
+        for (final var page : pages) {
+            for (final var ticket : page.tickets()) {
+                Assertions.assertEquals(anEventId.value(), ticket.eventId());
+                Assertions.assertTrue(previous == null || !ticket.reservedAt().isBefore(previous));
+                Assertions.assertTrue(ids.add(ticket.id()));
+                previous = ticket.reservedAt();
+            }
+        }
+        Assertions.assertEquals(23, ids.size());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um cursor inválido")
+    public void testListWithInvalidCursor() {
+        //given
+        final var expectedError = "Invalid cursor";
+        final var useCase = new ListEventTicketsUseCase(new InMemoryTicketRepository());
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new ListEventTicketsUseCase.Input(EventId.unique().value(), "not-a-cursor", 10)));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class StartTicketPaymentUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private StartTicketPaymentUseCase useCase;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve iniciar o pagamento de um ticket PENDING")
+    public void testStartPayment() {
+        //given
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        //when
+        final var output = useCase.execute(new StartTicketPaymentUseCase.Input(aTicket.getTicketId().value()));
+
+        //then
+        Assertions.assertEquals(TicketStatus.PROCESSING.name(), output.status());
+        Assertions.assertEquals(TicketStatus.PROCESSING, ticketRepository.ticketOfId(aTicket.getTicketId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve recriar um ticket removido pela expiração")
+    public void testStartPaymentOfReleasedTicket() {
+        //given
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+        ticketRepository.deleteAll();
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new StartTicketPaymentUseCase.Input(aTicket.getTicketId().value())));
+
+        //then
+        Assertions.assertEquals("Ticket is not payable", actualException.getMessage());
+        Assertions.assertTrue(ticketRepository.ticketOfId(aTicket.getTicketId()).isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.fullcycle.hexagonal.application.usecases.ticket;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+public class StartTicketPaymentUseCaseTest {
+
+    @Test
+    @DisplayName("Deve iniciar o pagamento de um ticket PENDING")
+    public void testStartPayment() {
+        //given
+        final var ticketRepository = new InMemoryTicketRepository();
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+
+        final var expectedStatus = TicketStatus.PROCESSING.name();
+
+        //when
+        final var useCase = new StartTicketPaymentUseCase(ticketRepository);
+        final var output = useCase.execute(new StartTicketPaymentUseCase.Input(aTicket.getTicketId().value()));
+
+        //then
+        Assertions.assertEquals(aTicket.getTicketId().value(), output.id());
+        Assertions.assertEquals(expectedStatus, output.status());
+        Assertions.assertEquals(TicketStatus.PROCESSING, ticketRepository.ticketOfId(aTicket.getTicketId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar o pagamento de um ticket já pago")
+    public void testStartPaymentOfPaidTicket() {
+        //given
+        final var ticketRepository = new InMemoryTicketRepository();
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+        ticketRepository.markPaid(List.of(aTicket.getTicketId()), Instant.now());
+
+        final var expectedError = "Ticket is not payable";
+
+        //when
+        final var useCase = new StartTicketPaymentUseCase(ticketRepository);
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new StartTicketPaymentUseCase.Input(aTicket.getTicketId().value())));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve recriar um ticket que expirou antes de o pagamento ser iniciado")
+    public void testStartPaymentOfExpiredTicket() {
+        //given
+        final var ticketRepository = new InMemoryTicketRepository();
+        final var aTicket = ticketRepository.create(Ticket.newTicket(CustomerId.unique(), EventId.unique()));
+        ticketRepository.deletePending(List.of(aTicket.getTicketId()));
+
+        final var expectedError = "Ticket is not payable";
+
+        //when
+        final var useCase = new StartTicketPaymentUseCase(ticketRepository);
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new StartTicketPaymentUseCase.Input(aTicket.getTicketId().value())));
+
+        //then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertTrue(ticketRepository.ticketOfId(aTicket.getTicketId()).isEmpty());
+    }
+}
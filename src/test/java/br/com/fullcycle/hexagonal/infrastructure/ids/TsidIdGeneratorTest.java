@@ -0,0 +1,30 @@
+package br.com.fullcycle.hexagonal.infrastructure.ids;
+
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TsidIdGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar identificadores crescentes quando a estratégia TSID estiver ativa")
+    public void testMonotonicIds() {
+        // given
+        final var idGenerator = new TsidIdGenerator();
+
+        // when
+        var previous = TicketId.unique(idGenerator);
+        for (int i = 0; i < 10_000; i++) {
+            final var actual = TicketId.unique(idGenerator);
+
+            // then
+            Assertions.assertTrue(
+                    Long.compareUnsigned(previous.mostSignificantBits(), actual.mostSignificantBits()) < 0,
+                    "Expected %s to be after %s".formatted(actual, previous)
+            );
+            Assertions.assertEquals(TicketId.with(actual.value()), actual);
+            previous = actual;
+        }
+    }
+}
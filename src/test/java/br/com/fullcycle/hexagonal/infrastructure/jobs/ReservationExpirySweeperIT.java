@@ -0,0 +1,52 @@
+package br.com.fullcycle.hexagonal.infrastructure.jobs;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+// O banco em memória é compartilhado entre os contextos de teste: o sweeper não pode continuar rodando depois desta classe
+@DirtiesContext
+@TestPropertySource(properties = {
+        "tickets.expiry.enabled=true",
+        "tickets.expiry.ttl=1s",
+        "tickets.expiry.max-interval=200ms"
+})
+class ReservationExpirySweeperIT extends IntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Test
+    @DisplayName("Deve liberar em segundo plano a reserva que passou do TTL")
+    public void testSweeperReleasesExpiredReservation() throws Exception {
+        //given
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), anEvent.getEventId());
+        eventRepository.reserveSpot(anEvent.getEventId(), aTicket.getTicketId(), aTicket.getCustomerId()).orElseThrow();
+        ticketRepository.create(aTicket);
+
+        //when
+        final var deadline = System.nanoTime() + 10_000_000_000L;
+        while (ticketRepository.ticketOfId(aTicket.getTicketId()).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        //then
+        Assertions.assertTrue(ticketRepository.ticketOfId(aTicket.getTicketId()).isEmpty());
+        Assertions.assertEquals(0, eventRepository.eventOfId(anEvent.getEventId()).orElseThrow().getSoldSpots());
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.fullcycle.hexagonal.infrastructure.metrics;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+class UseCaseMetricsInterceptorTest {
+
+    @Test
+    @DisplayName("Deve registrar latência por resultado e erros pela mensagem da ValidationException")
+    public void testRecordsExecutions() throws Exception {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var useCase = instrumented(new CreateCustomerUseCase(new InMemoryCustomerRepository()), registry);
+        final var input = new CreateCustomerUseCase.Input("123.456.789-01", "john.doe@gmail.com", "John Doe");
+
+        // when
+        useCase.execute(input);
+        Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals(1, registry.find(UseCaseMetricsInterceptor.EXECUTION_METRIC)
+                .tag("usecase", "CreateCustomerUseCase").tag("outcome", "success").timer().count());
+        Assertions.assertEquals(1, registry.find(UseCaseMetricsInterceptor.EXECUTION_METRIC)
+                .tag("usecase", "CreateCustomerUseCase").tag("outcome", "validation_error").timer().count());
+        Assertions.assertEquals(1.0, registry.find(UseCaseMetricsInterceptor.ERRORS_METRIC)
+                .tag("reason", "Customer already exists").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve medir a execução assíncrona uma única vez, quando o future completar")
+    public void testRecordsAsyncExecution() throws Exception {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var useCase = instrumented(new CreateCustomerUseCase(new InMemoryCustomerRepository()), registry);
+        final var input = new CreateCustomerUseCase.Input("123.456.789-01", "john.doe@gmail.com", "John Doe");
+
+        // when
+        useCase.executeAsync(input, Runnable::run).get(5, TimeUnit.SECONDS);
+
+        // then
+        Assertions.assertEquals(1, registry.find(UseCaseMetricsInterceptor.EXECUTION_METRIC)
+                .tag("usecase", "CreateCustomerUseCase").tag("outcome", "success").timer().count());
+    }
+
+    private static CreateCustomerUseCase instrumented(final CreateCustomerUseCase useCase, final SimpleMeterRegistry registry) {
+        final var proxyFactory = new ProxyFactory(useCase);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new UseCaseMetricsInterceptor(() -> registry, "CreateCustomerUseCase"));
+        return (CreateCustomerUseCase) proxyFactory.getProxy();
+    }
+}
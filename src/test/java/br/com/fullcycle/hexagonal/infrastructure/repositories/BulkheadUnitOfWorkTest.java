@@ -0,0 +1,92 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BulkheadUnitOfWorkTest {
+
+    @Test
+    @DisplayName("Não deve executar mais transações simultâneas do que o número de permissões")
+    public void testLimitsConcurrency() throws Exception {
+        // given
+        final var expectedPermits = 3;
+        final var inside = new AtomicInteger();
+        final var maxInside = new AtomicInteger();
+        final var unitOfWork = new BulkheadUnitOfWork(UnitOfWork.direct(), expectedPermits);
+        final var done = new CountDownLatch(100);
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                unitOfWork.execute(() -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    return inside.decrementAndGet();
+                });
+                done.countDown();
+            });
+        }
+
+        // then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assertions.assertTrue(maxInside.get() <= expectedPermits);
+        Assertions.assertEquals(expectedPermits, unitOfWork.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando a transação falhar")
+    public void testReleasesPermitOnFailure() {
+        // given
+        final var unitOfWork = new BulkheadUnitOfWork(UnitOfWork.direct(), 1);
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> unitOfWork.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // then
+        Assertions.assertEquals(1, unitOfWork.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve falhar sem nova tentativa e manter a interrupção quando interrompido na espera")
+    public void testInterruptedWhileWaiting() throws Exception {
+        // given
+        final var unitOfWork = new BulkheadUnitOfWork(UnitOfWork.direct(), 1);
+        final var executions = new AtomicInteger();
+        final var holding = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var holder = new Thread(() -> unitOfWork.execute(() -> {
+            holding.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+        holder.start();
+        Assertions.assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // when
+        Thread.currentThread().interrupt();
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> unitOfWork.execute(executions::incrementAndGet));
+        final var interrupted = Thread.interrupted();
+        release.countDown();
+        holder.join();
+
+        // then
+        Assertions.assertTrue(interrupted);
+        Assertions.assertInstanceOf(InterruptedException.class, actualException.getCause());
+        Assertions.assertEquals(0, executions.get());
+        Assertions.assertEquals(1, unitOfWork.availablePermits());
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachedCustomerRepositoryTest {
+
+    @Test
+    @DisplayName("Deve consultar o repositório uma única vez para o mesmo id")
+    public void testCustomerOfIdIsCached() {
+        // given
+        final var lookups = new AtomicInteger();
+        final var delegate = countingRepository(lookups);
+        final var aCustomer = delegate.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+
+        final var repository = new CachedCustomerRepository(delegate, 100, Duration.ofMinutes(5));
+
+        // when
+        final var first = repository.customerOfId(aCustomer.getCustomerId());
+        final var second = repository.customerOfId(aCustomer.getCustomerId());
+
+        // then
+        Assertions.assertEquals(aCustomer, first.get());
+        Assertions.assertEquals(aCustomer, second.get());
+        Assertions.assertEquals(1, lookups.get());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar ausências e deve invalidar o cliente no update")
+    public void testMissesAreNotCachedAndUpdateInvalidates() {
+        // given
+        final var lookups = new AtomicInteger();
+        final var delegate = countingRepository(lookups);
+        final var repository = new CachedCustomerRepository(delegate, 100, Duration.ofMinutes(5));
+
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+
+        // when
+        Assertions.assertTrue(repository.customerOfId(aCustomer.getCustomerId()).isEmpty());
+        repository.create(aCustomer);
+        Assertions.assertTrue(repository.customerOfId(aCustomer.getCustomerId()).isPresent());
+
+        final var updated = new Customer(aCustomer.getCustomerId(), "John Smith", "123.456.789-01", "john.doe@gmail.com");
+        repository.update(updated);
+        final var actual = repository.customerOfId(aCustomer.getCustomerId());
+
+        // then
+        Assertions.assertEquals("John Smith", actual.get().getName().value());
+        Assertions.assertEquals(3, lookups.get());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cliente de novo ao fim da transação do update")
+    public void testUpdateInvalidatesAfterTransaction() {
+        // given
+        final var lookups = new AtomicInteger();
+        final var delegate = countingRepository(lookups);
+        final var repository = new CachedCustomerRepository(delegate, 100, Duration.ofMinutes(5));
+
+        final var aCustomer = repository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var updated = new Customer(aCustomer.getCustomerId(), "John Smith", "123.456.789-01", "john.doe@gmail.com");
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.update(updated);
+            // leitura entre a escrita e o commit: volta a ocupar o cache
+            repository.customerOfId(aCustomer.getCustomerId());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        repository.customerOfId(aCustomer.getCustomerId());
+
+        // then
+        Assertions.assertEquals(2, lookups.get());
+    }
+
+    private static InMemoryCustomerRepository countingRepository(final AtomicInteger lookups) {
+        return new InMemoryCustomerRepository() {
+            @Override
+            public Optional<Customer> customerOfId(CustomerId anId) {
+                lookups.incrementAndGet();
+                return super.customerOfId(anId);
+            }
+        };
+    }
+}
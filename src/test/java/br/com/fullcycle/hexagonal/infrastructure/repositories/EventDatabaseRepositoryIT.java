@@ -0,0 +1,187 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jobs.SoldSpotsBackfill;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class EventDatabaseRepositoryIT extends IntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private SoldSpotsBackfill soldSpotsBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Não deve emitir mais statements ao carregar um evento com mais tickets (N+1)")
+    public void testEventOfIdHasNoNPlusOne() {
+        //given
+        final var fewTickets = createEventWithTickets(1);
+        final var manyTickets = createEventWithTickets(20);
+
+        //when
+        final var fewStatements = statementsOf(() -> eventRepository.eventOfId(fewTickets).orElseThrow().allTickets());
+        final var manyStatements = statementsOf(() -> eventRepository.eventOfId(manyTickets).orElseThrow().allTickets());
+
+        //then
+        Assertions.assertEquals(fewStatements, manyStatements);
+    }
+
+    @Test
+    @DisplayName("Deve publicar a quantidade de statements emitidos por método do repositório")
+    public void testStatementsMetric() {
+        //given
+        final var anEventId = createEventWithTickets(5);
+        final var anEvent = eventRepository.eventOfId(anEventId).orElseThrow();
+        anEvent.reserveTicket(CustomerId.unique());
+        final var before = meterRegistry.find("repository.statements")
+                .tag("repository", "EventDatabaseRepository")
+                .tag("method", "update")
+                .summaries().stream().mapToLong(it -> it.count()).sum();
+
+        //when
+        eventRepository.update(anEvent);
+
+        //then
+        final var statements = meterRegistry.find("repository.statements")
+                .tag("repository", "EventDatabaseRepository")
+                .tag("method", "update")
+                .summary();
+        Assertions.assertNotNull(statements);
+        Assertions.assertEquals(before + 1, statements.count());
+        Assertions.assertTrue(statements.totalAmount() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve recusar pela chave única a segunda reserva do mesmo cliente e desfazer o incremento do contador")
+    public void testReserveSpotTwiceForTheSameCustomer() {
+        //given
+        final var anEventId = createEventWithTickets(0);
+        final var aCustomerId = CustomerId.unique();
+        eventRepository.reserveSpot(anEventId, TicketId.unique(), aCustomerId).orElseThrow();
+
+        //when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> eventRepository.reserveSpot(anEventId, TicketId.unique(), aCustomerId));
+
+        //then
+        Assertions.assertEquals("Ticket already registered", actualException.getMessage());
+        Assertions.assertEquals(1, eventJpaRepository.findById(anEventId.toUUID()).orElseThrow().getSoldSpots());
+    }
+
+    @Test
+    @DisplayName("Deve reservar o ticket em events_tickets e gravá-lo em tickets fora do modo SINGLE_WRITE")
+    public void testReserveTicketWithEventsTicketsStorage() {
+        //given
+        final var anEventId = createEventWithTickets(2);
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), anEventId);
+
+        //when
+        final var actualTicket = eventRepository.reserveTicket(aTicket).orElseThrow();
+
+        //then
+        Assertions.assertEquals(3, actualTicket.getOrdering());
+        Assertions.assertTrue(ticketRepository.ticketOfId(aTicket.getTicketId()).isPresent());
+        Assertions.assertTrue(eventRepository.hasTicketOf(anEventId, aTicket.getCustomerId()));
+        Assertions.assertEquals(3, eventJpaRepository.findById(anEventId.toUUID()).orElseThrow().getSoldSpots());
+    }
+
+    @Test
+    @DisplayName("Deve preencher soldSpots dos eventos gravados antes da coluna existir")
+    public void testBackfillSoldSpots() {
+        //given
+        final var anEventId = createEventWithTickets(3);
+        final var anEmptyEventId = createEventWithTickets(0);
+        jdbcTemplate.update("update events set sold_spots = 0");
+
+        //when
+        soldSpotsBackfill.run();
+
+        //then
+        Assertions.assertEquals(3, eventJpaRepository.findById(anEventId.toUUID()).orElseThrow().getSoldSpots());
+        Assertions.assertEquals(0, eventJpaRepository.findById(anEmptyEventId.toUUID()).orElseThrow().getSoldSpots());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar um evento gravado antes da coluna version existir")
+    public void testUpdateEventWithNullVersion() {
+        //given
+        final var anEventId = createEventWithTickets(1);
+        jdbcTemplate.update("update events set version = null");
+        soldSpotsBackfill.run();
+
+        final var anEvent = eventRepository.eventOfId(anEventId).orElseThrow();
+        anEvent.reserveTicket(CustomerId.unique());
+
+        //when
+        eventRepository.update(anEvent);
+
+        //then
+        Assertions.assertEquals(2, eventRepository.eventOfId(anEventId).orElseThrow().allTickets().size());
+        Assertions.assertEquals(1, eventJpaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve incrementar a versão no contador mesmo quando ela ainda estiver nula")
+    public void testReserveSpotWithNullVersion() {
+        //given
+        final var anEventId = createEventWithTickets(0);
+        jdbcTemplate.update("update events set version = null");
+
+        //when
+        eventRepository.reserveSpot(anEventId, TicketId.unique(), CustomerId.unique()).orElseThrow();
+
+        //then
+        Assertions.assertEquals(1L, eventJpaRepository.findById(anEventId.toUUID()).orElseThrow().getVersion());
+    }
+
+    private EventId createEventWithTickets(final int tickets) {
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 100, aPartner);
+        for (int i = 0; i < tickets; i++) {
+            anEvent.reserveTicket(CustomerId.unique());
+        }
+        return eventRepository.create(anEvent).getEventId();
+    }
+
+    private static long statementsOf(final Runnable work) {
+        final var before = SqlStatementCounter.current();
+        work.run();
+        return SqlStatementCounter.current() - before;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// Perfil de produção sobre o banco de teste: "test" vem por último para manter a URL do H2
+@ActiveProfiles(value = {"production", "test"}, inheritProfiles = false)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=update")
+class EventTicketBatchingIT extends IntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os tickets de um evento em lote, sem um INSERT preparado por ticket")
+    public void testTicketInsertsAreBatched() {
+        //given
+        final var expectedTickets = 50;
+        final var expectedMaxStatements = 2;
+
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", expectedTickets, aPartner);
+        for (int i = 0; i < expectedTickets; i++) {
+            anEvent.reserveTicket(CustomerId.unique());
+        }
+
+        //when
+        final var before = SqlStatementCounter.current();
+        final var actualEvent = eventRepository.create(anEvent);
+        final var statements = SqlStatementCounter.current() - before;
+
+        //then
+        // Um INSERT do evento e um único INSERT preparado para o lote de tickets
+        Assertions.assertTrue(statements <= expectedMaxStatements, "statements: " + statements);
+        Assertions.assertEquals(expectedTickets, eventRepository.eventOfId(actualEvent.getEventId()).orElseThrow().allTickets().size());
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.IdGenerator;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventAvailability;
+import br.com.fullcycle.hexagonal.application.domain.event.EventLocks;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.repositories.UnitOfWork;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@TestPropertySource(properties = "events.reservation.mode=SINGLE_WRITE")
+class SingleWriteReservationIT extends IntegrationTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EventTicketJpaRepository eventTicketJpaRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve reservar com uma única linha em tickets e derivar dela os tickets do evento")
+    public void testReserveTicketWritesOnlyTicket() {
+        //given
+        final var expectedMaxStatements = 3;
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        final var aTicket = Ticket.newTicket(CustomerId.unique(), anEvent.getEventId());
+
+        //when
+        final var before = SqlStatementCounter.current();
+        final var actualEventTicket = eventRepository.reserveTicket(aTicket);
+        final var statements = SqlStatementCounter.current() - before;
+
+        //then
+        // UPDATE do contador, leitura do lugar e o INSERT do ticket
+        Assertions.assertTrue(statements <= expectedMaxStatements, "statements: " + statements);
+        Assertions.assertEquals(1, actualEventTicket.orElseThrow().getOrdering());
+        Assertions.assertEquals(0, eventTicketJpaRepository.count());
+        Assertions.assertTrue(ticketRepository.ticketOfId(aTicket.getTicketId()).isPresent());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).orElseThrow();
+        Assertions.assertEquals(1, actualEvent.getSoldSpots());
+        Assertions.assertTrue(eventRepository.hasTicketOf(anEvent.getEventId(), aTicket.getCustomerId()));
+    }
+
+    @Test
+    @DisplayName("Deve refazer o lote sem o pedido que perdeu a corrida pela chave única e manter as demais reservas")
+    public void testBatchedReservationLosingTheUniqueKey() throws Exception {
+        //given
+        final var expectedError = "Ticket already registered";
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+
+        final var john = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var jane = customerRepository.create(Customer.newCustomer("Jane Doe", "123.456.789-02", "jane.doe@gmail.com"));
+        final var mary = customerRepository.create(Customer.newCustomer("Mary Doe", "123.456.789-03", "mary.doe@gmail.com"));
+
+        // Jane já reservou por outro caminho, mas a checagem do lote não enxerga essa reserva
+        eventRepository.reserveTicket(Ticket.newTicket(jane.getCustomerId(), anEvent.getEventId())).orElseThrow();
+        final var racingRepository = (EventRepository) Proxy.newProxyInstance(
+                EventRepository.class.getClassLoader(),
+                new Class<?>[]{EventRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("hasTicketOf")) {
+                        return false;
+                    }
+                    try {
+                        return method.invoke(eventRepository, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                }
+        );
+
+        final var scheduler = Executors.newSingleThreadScheduledExecutor();
+        final var useCase = new SubscribeCustomerToEventUseCase(
+                customerRepository,
+                racingRepository,
+                ticketRepository,
+                SubscribeCustomerToEventUseCase.ReservationMode.SINGLE_WRITE,
+                EventAvailability.disabled(),
+                unitOfWork,
+                SubscribeCustomerToEventUseCase.Retry.DEFAULT,
+                EventLocks.none(),
+                new SubscribeCustomerToEventUseCase.Batching(Duration.ofSeconds(5), 3, scheduler),
+                IdGenerator.random()
+        );
+
+        try {
+            //when
+            final var results = Stream.of(john, jane, mary)
+                    .map(it -> CompletableFuture.supplyAsync(() -> useCase.execute(
+                            new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), it.getCustomerId().value()))))
+                    .toList();
+
+            //then
+            Assertions.assertNotNull(results.get(0).get(10, TimeUnit.SECONDS).ticketId());
+            Assertions.assertNotNull(results.get(2).get(10, TimeUnit.SECONDS).ticketId());
+            final var actualException = Assertions.assertThrows(ExecutionException.class, () -> results.get(1).get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(ValidationException.class, actualException.getCause());
+            Assertions.assertEquals(expectedError, actualException.getCause().getMessage());
+
+            final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).orElseThrow();
+            Assertions.assertEquals(3, actualEvent.getSoldSpots());
+            Assertions.assertTrue(eventRepository.hasTicketOf(anEvent.getEventId(), john.getCustomerId()));
+            Assertions.assertTrue(eventRepository.hasTicketOf(anEvent.getEventId(), mary.getCustomerId()));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
+
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -144,4 +146,25 @@ public class CustomerControllerTest {
         Assertions.assertEquals(customer.cpf(), actualResponse.cpf());
         Assertions.assertEquals(customer.email(), actualResponse.email());
     }
+
+    @Test
+    @DisplayName("Deve importar clientes em lote")
+    public void testImport() throws Exception {
+
+        var customers = List.of(
+                new NewCustomerDTO("123.456.789-01", "John Doe", "john.doe@gmail.com"),
+                new NewCustomerDTO("123.456.789-02", "Jane Doe", "jane.doe@gmail.com"),
+                new NewCustomerDTO("123.456.789-01", "John Doe", "john.doe2@gmail.com")
+        );
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/customers/import")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(customers))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rejected[0].index").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rejected[0].error").value("Customer already exists"));
+    }
 }
@@ -22,7 +22,6 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
-import org.springframework.transaction.annotation.Transactional;
 
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
@@ -79,7 +78,6 @@ class EventControllerTest {
     }
 
     @Test
-    @Transactional
     @DisplayName("Deve comprar um ticket de um evento")
     public void testReserveTicket() throws Exception {
 
@@ -98,15 +96,66 @@ class EventControllerTest {
 
         var sub = new SubscribeDTO(johnDoe.getCustomerId().value(), null);
 
-        this.mvc.perform(
+        final var subscribeResult = this.mvc.perform(
                         MockMvcRequestBuilders.post("/events/{id}/subscribe", eventId)
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(sub))
                 )
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(subscribeResult))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andReturn().getResponse().getContentAsByteArray();
+                .andExpect(MockMvcResultMatchers.jsonPath("$.ticketStatus").value("PENDING"));
 
         var actualEvent = eventRepository.eventOfId(EventId.with(eventId)).get();
         Assertions.assertEquals(1, actualEvent.allTickets().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve exportar os tickets de um evento em CSV")
+    public void testExportTickets() throws Exception {
+
+        var event = new NewEventDTO("2021-01-01", "Disney on Ice", 100, disney.getPartnerId().value());
+
+        final var createResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(event))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var eventId = mapper.readValue(createResult, CreateEventUseCase.Output.class).id();
+
+        final var subscribeResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/subscribe", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(new SubscribeDTO(johnDoe.getCustomerId().value(), null)))
+                )
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(subscribeResult))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        final var result = this.mvc.perform(MockMvcRequestBuilders.get("/events/{id}/tickets/export", eventId).param("format", "csv"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        final var lines = result.split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals("id,eventId,customerId,status,reservedAt,paidAt", lines[0]);
+        Assertions.assertTrue(lines[1].contains("," + eventId + "," + johnDoe.getCustomerId().value() + ",PENDING,"));
+    }
+
+    @Test
+    @DisplayName("Não deve exportar os tickets de um evento inexistente")
+    public void testExportTicketsOfUnknownEvent() throws Exception {
+
+        this.mvc.perform(MockMvcRequestBuilders.get("/events/{id}/tickets/export", EventId.unique().value()).param("format", "ndjson"))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.content().string("Event not found"));
+    }
+}